@@ -0,0 +1,18 @@
+package game;
+
+/**
+ * The ways GameModel can decide whether two objects collided during a tick.
+ */
+public enum CollisionMode {
+    /**
+     * Objects collide only if they occupy the same cell after moving.
+     * Objects moving towards each other can swap cells and miss.
+     */
+    DISCRETE,
+    /**
+     * Objects collide if their paths from the previous position to the current
+     * position meet at any point during the tick, so fast movers cannot tunnel
+     * through each other or through the ship.
+     */
+    SWEPT
+}
@@ -0,0 +1,225 @@
+package game;
+
+/**
+ * The board size and balancing constants used by a single GameModel.
+ * Instances are immutable; each with...() method returns a modified copy, so
+ * differently configured models can run side by side in one JVM.
+ *
+ * Example: GameConfig big = GameConfig.DEFAULT.withBoardSize(1000, 2000).withStartSpawnRate(50)
+ */
+public final class GameConfig {
+    /** The standard game, matching the constants declared in GameModel. */
+    public static final GameConfig DEFAULT = new GameConfig(GameModel.GAME_WIDTH,
+            GameModel.GAME_HEIGHT, GameModel.START_SPAWN_RATE, GameModel.SPAWN_RATE_INCREASE,
+            GameModel.START_LEVEL, GameModel.SCORE_THRESHOLD, GameModel.ASTEROID_DAMAGE,
+            GameModel.ENEMY_DAMAGE, GameModel.ENEMY_SPAWN_RATE, GameModel.POWER_UP_SPAWN_RATE);
+
+    private final int width;
+    private final int height;
+    private final int startSpawnRate;
+    private final int spawnRateIncrease;
+    private final int startLevel;
+    private final int scoreThreshold;
+    private final int asteroidDamage;
+    private final int enemyDamage;
+    private final double enemySpawnRate;
+    private final double powerUpSpawnRate;
+
+    private GameConfig(int width, int height, int startSpawnRate, int spawnRateIncrease,
+                       int startLevel, int scoreThreshold, int asteroidDamage, int enemyDamage,
+                       double enemySpawnRate, double powerUpSpawnRate) {
+        if (width <= 0 || height <= 0) {
+            throw new IllegalArgumentException(
+                    "Board size must be positive: " + width + "x" + height);
+        }
+        this.width = width;
+        this.height = height;
+        this.startSpawnRate = startSpawnRate;
+        this.spawnRateIncrease = spawnRateIncrease;
+        this.startLevel = startLevel;
+        this.scoreThreshold = scoreThreshold;
+        this.asteroidDamage = asteroidDamage;
+        this.enemyDamage = enemyDamage;
+        this.enemySpawnRate = enemySpawnRate;
+        this.powerUpSpawnRate = powerUpSpawnRate;
+    }
+
+    /**
+     * Returns a copy with the given board size.
+     *
+     * @param width the number of columns, greater than 0.
+     * @param height the number of rows, greater than 0.
+     * @return the modified configuration.
+     * @throws IllegalArgumentException if either dimension is not positive.
+     */
+    public GameConfig withBoardSize(int width, int height) {
+        return new GameConfig(width, height, startSpawnRate, spawnRateIncrease, startLevel,
+                scoreThreshold, asteroidDamage, enemyDamage, enemySpawnRate, powerUpSpawnRate);
+    }
+
+    /**
+     * Returns a copy with the given starting spawn rate.
+     *
+     * @param rate the percentage chance per tick of an asteroid spawning at the start.
+     * @return the modified configuration.
+     */
+    public GameConfig withStartSpawnRate(int rate) {
+        return new GameConfig(width, height, rate, spawnRateIncrease, startLevel,
+                scoreThreshold, asteroidDamage, enemyDamage, enemySpawnRate, powerUpSpawnRate);
+    }
+
+    /**
+     * Returns a copy with the given spawn rate increase per level.
+     *
+     * @param increase the percentage added to the spawn rate on each level up.
+     * @return the modified configuration.
+     */
+    public GameConfig withSpawnRateIncrease(int increase) {
+        return new GameConfig(width, height, startSpawnRate, increase, startLevel,
+                scoreThreshold, asteroidDamage, enemyDamage, enemySpawnRate, powerUpSpawnRate);
+    }
+
+    /**
+     * Returns a copy with the given starting level.
+     *
+     * @param level the level a new game starts at.
+     * @return the modified configuration.
+     */
+    public GameConfig withStartLevel(int level) {
+        return new GameConfig(width, height, startSpawnRate, spawnRateIncrease, level,
+                scoreThreshold, asteroidDamage, enemyDamage, enemySpawnRate, powerUpSpawnRate);
+    }
+
+    /**
+     * Returns a copy with the given score threshold.
+     *
+     * @param threshold the score needed per level to level up.
+     * @return the modified configuration.
+     */
+    public GameConfig withScoreThreshold(int threshold) {
+        return new GameConfig(width, height, startSpawnRate, spawnRateIncrease, startLevel,
+                threshold, asteroidDamage, enemyDamage, enemySpawnRate, powerUpSpawnRate);
+    }
+
+    /**
+     * Returns a copy with the given collision damage.
+     *
+     * @param asteroid the damage an asteroid deals to the ship.
+     * @param enemy the damage an enemy deals to the ship.
+     * @return the modified configuration.
+     */
+    public GameConfig withDamage(int asteroid, int enemy) {
+        return new GameConfig(width, height, startSpawnRate, spawnRateIncrease, startLevel,
+                scoreThreshold, asteroid, enemy, enemySpawnRate, powerUpSpawnRate);
+    }
+
+    /**
+     * Returns a copy with the given spawn ratios.
+     *
+     * @param enemy the enemy spawn chance as a fraction of the asteroid spawn chance.
+     * @param powerUp the power-up spawn chance as a fraction of the asteroid spawn chance.
+     * @return the modified configuration.
+     */
+    public GameConfig withSpawnRatios(double enemy, double powerUp) {
+        return new GameConfig(width, height, startSpawnRate, spawnRateIncrease, startLevel,
+                scoreThreshold, asteroidDamage, enemyDamage, enemy, powerUp);
+    }
+
+    /**
+     * Returns the number of columns on the board.
+     *
+     * @return the board width.
+     */
+    public int getWidth() {
+        return width;
+    }
+
+    /**
+     * Returns the number of rows on the board.
+     *
+     * @return the board height.
+     */
+    public int getHeight() {
+        return height;
+    }
+
+    /**
+     * Returns the starting spawn rate.
+     *
+     * @return the percentage chance per tick of an asteroid spawning at the start.
+     */
+    public int getStartSpawnRate() {
+        return startSpawnRate;
+    }
+
+    /**
+     * Returns the spawn rate increase per level.
+     *
+     * @return the percentage added to the spawn rate on each level up.
+     */
+    public int getSpawnRateIncrease() {
+        return spawnRateIncrease;
+    }
+
+    /**
+     * Returns the starting level.
+     *
+     * @return the level a new game starts at.
+     */
+    public int getStartLevel() {
+        return startLevel;
+    }
+
+    /**
+     * Returns the score threshold.
+     *
+     * @return the score needed per level to level up.
+     */
+    public int getScoreThreshold() {
+        return scoreThreshold;
+    }
+
+    /**
+     * Returns the damage an asteroid deals.
+     *
+     * @return the asteroid damage.
+     */
+    public int getAsteroidDamage() {
+        return asteroidDamage;
+    }
+
+    /**
+     * Returns the damage an enemy deals.
+     *
+     * @return the enemy damage.
+     */
+    public int getEnemyDamage() {
+        return enemyDamage;
+    }
+
+    /**
+     * Returns the enemy spawn ratio.
+     *
+     * @return the enemy spawn chance as a fraction of the asteroid spawn chance.
+     */
+    public double getEnemySpawnRate() {
+        return enemySpawnRate;
+    }
+
+    /**
+     * Returns the power-up spawn ratio.
+     *
+     * @return the power-up spawn chance as a fraction of the asteroid spawn chance.
+     */
+    public double getPowerUpSpawnRate() {
+        return powerUpSpawnRate;
+    }
+
+    @Override
+    public String toString() {
+        return width + "x" + height + " board, spawn " + startSpawnRate + "%+"
+                + spawnRateIncrease + "%/level from level " + startLevel + " every "
+                + scoreThreshold + " points, damage " + asteroidDamage + "/" + enemyDamage
+                + ", ratios " + enemySpawnRate + "/" + powerUpSpawnRate;
+    }
+}
@@ -4,6 +4,14 @@ import game.core.*;
 import game.core.SpaceObject;
 import game.core.Ship;
 import game.exceptions.BoundaryExceededException;
+import game.metrics.GameMetrics;
+import game.render.DeltaRenderer;
+import game.render.Frame;
+import game.render.FrameBuffer;
+import game.render.FrameTracker;
+import game.render.RenderThread;
+import game.replay.Replay;
+import game.replay.ReplayRecorder;
 import game.ui.KeyHandler;
 import game.ui.Tickable;
 import game.GameModel;
@@ -23,6 +31,19 @@ public class GameController {
     private UI ui;
     private GameModel model;
     private long startTime;
+    // Only set when the game runs on a GameLoop rather than ui.onStep.
+    private GameLoop loop;
+    // Only set while the session is being recorded.
+    private ReplayRecorder recorder;
+    // Last values passed to ui.setStat, so unchanged stats are not sent again.
+    private int shownScore = Integer.MIN_VALUE;
+    private int shownHealth = Integer.MIN_VALUE;
+    private int shownLevel = Integer.MIN_VALUE;
+    private long shownSeconds = Long.MIN_VALUE;
+    // Only used when the UI is a DeltaRenderer.
+    private final FrameTracker frames = new FrameTracker();
+    // Inputs from the UI thread wait here until the loop thread applies them.
+    private InputQueue inputs = new InputQueue();
 
     /**
      * Initializes the game controller with the given UI and Model.
@@ -75,6 +96,10 @@ public class GameController {
         if (input == null || input.isEmpty()) {
             return;
         }
+        if (recorder != null) {
+            recorder.begin(model);
+            recorder.onInput(input);
+        }
         String command = input.toUpperCase();
         switch (command) {
             case "W":
@@ -149,6 +174,98 @@ public class GameController {
         });
     }
 
+    /**
+     * Starts the game on a fixed-timestep GameLoop instead of ui.onStep.
+     * The model is stepped every stepMillis and the game is rendered every renderMillis,
+     * so a slow render no longer slows the simulation down.
+     * Each step runs the update, collision, spawn and level-up stages exactly once.
+     * Key presses are queued and applied with handlePlayerInput on the loop thread
+     * before each step, so they never race with the model update.
+     * renderGame() also runs on the loop thread, between steps, so the UI must accept
+     * calls from that thread; startThreadedGame(long, long) renders on its own thread.
+     *
+     * @param stepMillis the simulation timestep in milliseconds.
+     * @param renderMillis the time between rendered frames in milliseconds.
+     * @return the running loop.
+     */
+    public GameLoop startGame(long stepMillis, long renderMillis) {
+        loop = new GameLoop(model, this::renderGame, stepMillis, renderMillis);
+        queueInputs();
+        loop.start();
+        return loop;
+    }
+
+    /**
+     * Starts the game on a fixed-timestep GameLoop with rendering on a separate thread.
+     * After each step the model publishes a copy of its state to a FrameBuffer, and the
+     * render thread draws the latest copy every renderMillis with renderFrame(), so the
+     * simulation never waits for the UI and the UI never sees a half-updated model.
+     * Key presses are queued and applied on the loop thread, as in startGame(long, long).
+     * Stopping the returned loop also stops the render thread.
+     *
+     * @param stepMillis the simulation timestep in milliseconds.
+     * @param renderMillis the time between rendered frames in milliseconds.
+     * @return the running loop.
+     */
+    public GameLoop startThreadedGame(long stepMillis, long renderMillis) {
+        FrameBuffer buffer = new FrameBuffer();
+        model.setFrameBuffer(buffer);
+        loop = new GameLoop(model, () -> { }, stepMillis, renderMillis);
+        RenderThread renderThread = new RenderThread(buffer, this::renderFrame, renderMillis);
+        loop.setStopHook(renderThread::stop);
+        queueInputs();
+        loop.start();
+        renderThread.start();
+        return loop;
+    }
+
+    /**
+     * Sets the queue which key presses wait in when the game runs on a GameLoop, e.g. to
+     * limit the moves or fires applied per tick. Must be called before the game starts.
+     *
+     * @param inputs the queue to use.
+     */
+    public void setInputQueue(InputQueue inputs) {
+        if (inputs != null) {
+            this.inputs = inputs;
+        }
+    }
+
+    /**
+     * Returns the queue which key presses wait in when the game runs on a GameLoop.
+     *
+     * @return the input queue.
+     */
+    public InputQueue getInputQueue() {
+        return inputs;
+    }
+
+    /**
+     * Routes key presses through the input queue, drained by the loop before each step.
+     */
+    private void queueInputs() {
+        InputQueue queue = inputs;
+        ui.onKey(queue::offer);
+        loop.setInputHook(() -> queue.drain(this::handlePlayerInput));
+    }
+
+    /**
+     * Seeds the model and starts recording every player input and tick, so the session
+     * can be replayed with ReplayPlayer. Must be called before the first tick, on a game
+     * driven by onTick() (i.e. started with startGame()). The state at the first input
+     * or tick, including the objects startGame() adds, is recorded as the replay's
+     * starting point.
+     *
+     * @param seed the seed to give the model's Random.
+     * @param hashInterval the number of ticks between recorded state hashes.
+     * @return the recorder; call toReplay() on it to get the session so far.
+     */
+    public ReplayRecorder startRecording(int seed, int hashInterval) {
+        model.setRandomSeed(seed);
+        recorder = new ReplayRecorder(Replay.StepMode.CONTROLLER, seed, hashInterval);
+        return recorder;
+    }
+
     /**
      * Uses the provided tick to call and advance the following:
      *      - A call to renderGame() to draw the current state of the game.
@@ -161,19 +278,29 @@ public class GameController {
      * @provided
      */
     public void onTick(int tick) {
+        if (recorder != null) {
+            recorder.begin(model); // The objects startGame() added are part of the replay.
+        }
         renderGame(); // Update Visual
         model.updateGame(tick); // Update GameObjects
         model.checkCollisions(); // Check for Collisions
         model.spawnObjects(); // Handles new spawns
         model.levelUp(); // Level up when score threshold is met
+        if (recorder != null) {
+            recorder.onTick(tick, model);
+        }
     }
 
     /**
      * Calls ui.pause() to pause the game and logs "Game paused."
+     * When running on a GameLoop, its simulation steps are paused or resumed as well.
      * (Note: the player may still move during paused time.)
      */
     public void pauseGame() {
         ui.pause();
+        if (loop != null) {
+            loop.setPaused(!loop.isPaused());
+        }
         ui.log("Game paused.");
     }
 
@@ -182,17 +309,66 @@ public class GameController {
     /**
      * Renders the current game state, including score, health, level and time survived.
      * Updates the UI stats and renders all SpaceObjects (including the Ship).
+     * A stat is only sent to the UI when its value differs from the last one sent.
+     * If the UI is a DeltaRenderer, it is given only the objects that spawned, moved or
+     * were removed since the previous frame, and those sharing a cell that was cleared,
+     * instead of the full object list.
      */
     public void renderGame() {
+        GameMetrics metrics = model.getMetrics();
+        long start = metrics == null ? 0 : System.nanoTime();
         Ship ship = model.getShip();
-        ui.setStat("Score", String.valueOf(ship.getScore()));
-        ui.setStat("Health", String.valueOf(ship.getHealth()));
-        ui.setStat("Level", String.valueOf(model.getLevel()));
-        long timeSurvived = (System.currentTimeMillis() - startTime) / 1000;
-        ui.setStat("Time Survived", timeSurvived + " seconds");
+        showStats(ship.getScore(), ship.getHealth(), model.getLevel());
+
+        if (ui instanceof DeltaRenderer) {
+            ((DeltaRenderer) ui).renderDelta(frames.update(model.getSpaceObjects(), ship));
+        } else {
+            List<SpaceObject> objects = new ArrayList<>(model.getSpaceObjects());
+            objects.add(ship);
+            ui.render(objects);
+        }
+        if (metrics != null) {
+            metrics.recordPhase(GameMetrics.Phase.RENDER, System.nanoTime() - start);
+        }
+    }
 
-        List<SpaceObject> objects = new ArrayList<>(model.getSpaceObjects());
-        objects.add(ship);
-        ui.render(objects);
+    /**
+     * Renders a frame published by the model, like renderGame() but from the frame's
+     * copy of the state rather than the live model. Safe to call on a render thread
+     * while the model is being updated.
+     *
+     * @param frame the frame to draw.
+     */
+    public void renderFrame(Frame frame) {
+        GameMetrics metrics = model.getMetrics();
+        long start = metrics == null ? 0 : System.nanoTime();
+        showStats(frame.getScore(), frame.getHealth(), frame.getLevel());
+        ui.render(frame.toSpaceObjects());
+        if (metrics != null) {
+            metrics.recordPhase(GameMetrics.Phase.RENDER, System.nanoTime() - start);
+        }
+    }
+
+    /**
+     * Sends each stat to the UI if it differs from the last value sent.
+     */
+    private void showStats(int score, int health, int level) {
+        if (score != shownScore) {
+            shownScore = score;
+            ui.setStat("Score", String.valueOf(score));
+        }
+        if (health != shownHealth) {
+            shownHealth = health;
+            ui.setStat("Health", String.valueOf(health));
+        }
+        if (level != shownLevel) {
+            shownLevel = level;
+            ui.setStat("Level", String.valueOf(level));
+        }
+        long timeSurvived = (System.currentTimeMillis() - startTime) / 1000;
+        if (timeSurvived != shownSeconds) {
+            shownSeconds = timeSurvived;
+            ui.setStat("Time Survived", timeSurvived + " seconds");
+        }
     }
 }
@@ -0,0 +1,292 @@
+package game;
+
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * A scheduler-driven game loop which advances a GameModel on a fixed timestep and
+ * renders at its own, independent rate.
+ *
+ * Simulation time is accumulated from a monotonic clock. Each frame runs as many
+ * whole steps as have elapsed, so a slow render delays the next steps but does not
+ * slow the simulation down. If the simulation falls more than maxStepsPerFrame steps
+ * behind, the surplus steps are skipped (and counted) instead of spiralling.
+ *
+ * Each step is a single model.updateGame(tick) call with tick &gt; 0, which moves objects,
+ * spawns, levels up and checks collisions exactly once.
+ *
+ * Steps, hooks and the renderer all run on the loop's own thread, one after another,
+ * so the renderer sees the model between steps without any locking, but every
+ * millisecond it spends delays the next steps. A renderer which draws to a UI toolkit
+ * must hand the work to that toolkit's thread itself, or use a FrameBuffer and
+ * RenderThread as GameController.startThreadedGame() does.
+ *
+ * If a step, the renderer or a hook throws, the loop stops and the exception is passed
+ * to the error handler, rather than being swallowed by the scheduler.
+ *
+ * The controls may be called from any thread. Only start() and stop() lock the loop,
+ * and only to hand the scheduler over; a frame never holds the lock, so pausing or
+ * reading the counters does not wait for a step or a render.
+ */
+public class GameLoop {
+    /** The default number of steps a frame may run to catch up. */
+    public static final int DEFAULT_MAX_STEPS_PER_FRAME = 5;
+
+    private final GameModel model;
+    private final Runnable renderer;
+    private final long stepNanos;
+    private final long renderNanos;
+    private volatile Runnable inputHook = () -> { };
+    private volatile Runnable stopHook = () -> { };
+    private volatile Consumer<Throwable> errorHandler;
+    private volatile Throwable failure;
+    private volatile int maxStepsPerFrame = DEFAULT_MAX_STEPS_PER_FRAME;
+    // Guarded by this: the running scheduler and its thread, handed over by start/stop.
+    private ScheduledExecutorService scheduler;
+    private Thread loopThread;
+
+    // Only written on the loop thread, so volatile is enough for readers elsewhere.
+    private volatile int tick = 1;
+    private volatile boolean paused;
+    private volatile long skippedSteps;
+    private volatile long renders;
+
+    /**
+     * Creates a loop which steps the model every stepMillis and calls the renderer
+     * every renderMillis.
+     *
+     * @param model the model to advance.
+     * @param renderer called to draw a frame, e.g. GameController::renderGame.
+     * @param stepMillis the simulation timestep in milliseconds.
+     * @param renderMillis the time between rendered frames in milliseconds.
+     * @throws IllegalArgumentException if either interval is not positive.
+     */
+    public GameLoop(GameModel model, Runnable renderer, long stepMillis, long renderMillis) {
+        if (stepMillis <= 0 || renderMillis <= 0) {
+            throw new IllegalArgumentException("Intervals must be positive: step "
+                    + stepMillis + "ms, render " + renderMillis + "ms");
+        }
+        this.model = model;
+        this.renderer = renderer;
+        this.stepNanos = TimeUnit.MILLISECONDS.toNanos(stepMillis);
+        this.renderNanos = TimeUnit.MILLISECONDS.toNanos(renderMillis);
+    }
+
+    /**
+     * Sets how many steps a single frame may run when catching up.
+     *
+     * @param maxSteps the maximum number of steps per frame, at least 1.
+     */
+    public void setMaxStepsPerFrame(int maxSteps) {
+        this.maxStepsPerFrame = Math.max(1, maxSteps);
+    }
+
+    /**
+     * Sets a hook to run on the loop thread before every step, and once per frame
+     * while paused, e.g. to apply queued player input between steps.
+     *
+     * @param hook the hook to run, or null for none.
+     */
+    public void setInputHook(Runnable hook) {
+        this.inputHook = hook == null ? () -> { } : hook;
+    }
+
+    /**
+     * Sets a hook to run whenever the loop stops, e.g. to stop a render thread which
+     * draws the frames the loop's model publishes.
+     *
+     * @param hook the hook to run, or null for none.
+     */
+    public void setStopHook(Runnable hook) {
+        this.stopHook = hook == null ? () -> { } : hook;
+    }
+
+    /**
+     * Sets the handler called on the loop thread with the exception that stopped the
+     * loop. By default the exception goes to the thread's uncaught exception handler,
+     * which prints it to standard error.
+     *
+     * @param handler the handler, or null for the default.
+     */
+    public void setErrorHandler(Consumer<Throwable> handler) {
+        this.errorHandler = handler;
+    }
+
+    /**
+     * Returns the exception that stopped the loop, if any.
+     *
+     * @return the exception, or null if the loop has not failed since it was started.
+     */
+    public Throwable getFailure() {
+        return failure;
+    }
+
+    /**
+     * Starts the loop on its own scheduler thread. Does nothing if already running.
+     */
+    public synchronized void start() {
+        if (scheduler != null) {
+            return;
+        }
+        failure = null;
+        scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "game-loop");
+            thread.setDaemon(true);
+            loopThread = thread;
+            return thread;
+        });
+        scheduler.scheduleAtFixedRate(new Run(System.nanoTime()), 0,
+                Math.min(stepNanos, renderNanos), TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * Stops the loop and runs the stop hook. Called from another thread, waits for the
+     * frame in progress to finish, so the model is left in the state of the last
+     * completed step.
+     */
+    public void stop() {
+        ScheduledExecutorService stopped;
+        Thread thread;
+        synchronized (this) {
+            if (scheduler == null) {
+                return;
+            }
+            stopped = scheduler;
+            thread = loopThread;
+            scheduler = null;
+            loopThread = null;
+        }
+        stopped.shutdownNow();
+        stopHook.run();
+        if (thread != Thread.currentThread()) {
+            try {
+                stopped.awaitTermination(Long.MAX_VALUE, TimeUnit.NANOSECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    /**
+     * Pauses or resumes simulation steps. Rendering continues while paused, and time
+     * spent paused is not caught up on resume.
+     *
+     * @param paused true to pause, false to resume.
+     */
+    public void setPaused(boolean paused) {
+        this.paused = paused;
+    }
+
+    /**
+     * Returns whether simulation steps are paused.
+     *
+     * @return true if paused.
+     */
+    public boolean isPaused() {
+        return paused;
+    }
+
+    /**
+     * Returns the tick that the next step will pass to updateGame().
+     *
+     * @return the next tick.
+     */
+    public int getTick() {
+        return tick;
+    }
+
+    /**
+     * Returns the number of steps dropped because the simulation fell too far behind.
+     *
+     * @return the number of skipped steps.
+     */
+    public long getSkippedSteps() {
+        return skippedSteps;
+    }
+
+    /**
+     * Returns the number of frames rendered so far.
+     *
+     * @return the number of rendered frames.
+     */
+    public long getRenderCount() {
+        return renders;
+    }
+
+    /**
+     * The timing state of one start() of the loop. A frame of a stopped run which is
+     * still finishing never touches the state of the next run.
+     */
+    private class Run implements Runnable {
+        private long lastTime;
+        private long lastRender;
+        private long accumulator;
+
+        private Run(long now) {
+            lastTime = now;
+            lastRender = now - renderNanos; // Draw the first frame straight away.
+        }
+
+        /**
+         * Runs a frame, stopping the loop if it throws. Left to the scheduler, an
+         * exception would cancel the task without a trace.
+         */
+        @Override
+        public void run() {
+            try {
+                frame();
+            } catch (RuntimeException | Error e) {
+                failure = e;
+                stop();
+                Consumer<Throwable> handler = errorHandler;
+                if (handler != null) {
+                    handler.accept(e);
+                } else {
+                    Thread thread = Thread.currentThread();
+                    thread.getUncaughtExceptionHandler().uncaughtException(thread, e);
+                }
+            }
+        }
+
+        /**
+         * Runs the steps that have come due since the last frame, then renders if a
+         * frame is due. Stops early once the loop has been stopped.
+         */
+        private void frame() {
+            long now = System.nanoTime();
+            Thread thread = Thread.currentThread();
+            if (paused) {
+                inputHook.run(); // An input may resume the game.
+            }
+            if (paused) {
+                accumulator = 0;
+            } else {
+                accumulator += now - lastTime;
+                int steps = 0;
+                while (accumulator >= stepNanos) {
+                    if (steps == maxStepsPerFrame) {
+                        skippedSteps += accumulator / stepNanos;
+                        accumulator %= stepNanos;
+                        break;
+                    }
+                    inputHook.run();
+                    if (paused || thread.isInterrupted()) {
+                        accumulator = 0;
+                        break;
+                    }
+                    model.updateGame(tick++);
+                    accumulator -= stepNanos;
+                    steps++;
+                }
+            }
+            lastTime = now;
+            if (now - lastRender >= renderNanos && !thread.isInterrupted()) {
+                lastRender = now;
+                renders++;
+                renderer.run();
+            }
+        }
+    }
+}
@@ -5,16 +5,38 @@ import game.core.SpaceObject;
 import game.core.Asteroid;
 import game.core.Bullet;
 import game.core.Enemy;
+import game.core.EntityType;
 import game.core.HealthPowerUp;
+import game.core.Motion;
+import game.core.MotionSystem;
+import game.core.ObjectPool;
+import game.core.PowerUp;
+import game.core.PowerUpEffect;
 import game.core.ShieldPowerUp;
 import game.core.Ship;
+import game.events.GameEventBus;
+import game.events.GameEventType;
+import game.events.LoggingListener;
+import game.metrics.GameMetrics;
+import game.render.FrameBuffer;
+import game.utility.ColumnIndex;
 import game.utility.Logger;
+import game.utility.RandomSource;
+import game.utility.SpatialGrid;
+import game.utility.StatefulRandom;
+import game.utility.TypeIndex;
+import java.util.AbstractList;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
 import java.util.List;
-import java.util.Random;
+import java.util.RandomAccess;
+import java.util.concurrent.ForkJoinPool;
 
 /**
  * Represents the game information and state. Stores and manipulates the game state.
+ * The constants below are the defaults; a model built with a GameConfig uses that
+ * configuration's board size and balancing values instead.
  */
 public class GameModel {
     public static final int GAME_HEIGHT = 20;
@@ -27,14 +49,69 @@ public class GameModel {
     public static final int ENEMY_DAMAGE = 20; // The amount of damage an enemy deals
     public static final double ENEMY_SPAWN_RATE = 0.5; // Percentage of asteroid spawn chance
     public static final double POWER_UP_SPAWN_RATE = 0.25; // Percentage of asteroid spawn chance
+    /** The default fewest objects for which setParallelism() splits a tick. */
+    public static final int DEFAULT_PARALLEL_THRESHOLD = 50_000;
 
-    private final Random random = new Random(); // ONLY USED IN this.spawnObjects()
+    // ONLY USED IN this.spawnObjects(); same sequence as java.util.Random, but its
+    // state can be saved and restored by GameSnapshot.
+    private final StatefulRandom random = new StatefulRandom();
+    // The source each SpawnCategory draws from, by ordinal. All share random by default.
+    private final RandomSource[] streams = {random, random, random};
     private List<SpaceObject> objects = new ArrayList<>();
-    private Logger logger;
+    // What getSpaceObjects() hands out: objects, flagging every write as a reason to
+    // re-index.
+    private final List<SpaceObject> view = new ObjectList();
+    // Set when the list was written to through view since the indexes were built.
+    private boolean listChanged;
+    // Cell index over objects, kept in step with every position change.
+    private final SpatialGrid grid;
+    // The position objects[i] is indexed at in grid.
+    private int[] gridX = new int[16];
+    private int[] gridY = new int[16];
+    // Indices of the objects the current collision pass will remove; reused every pass.
+    private final BitSet removals = new BitSet();
+    private CollisionMode collisionMode = CollisionMode.DISCRETE;
+    // Positions of objects[i] before the last updateGame() move, valid for i < moved.
+    private int[] previousX = new int[16];
+    private int[] previousY = new int[16];
+    private int moved;
+    // The type of objects[i], and the indices of each type, for the collision passes.
+    private final TypeIndex types = new TypeIndex();
+    // Sorted positions (see key()) of off-board enemies and of bullets that hit an enemy.
+    private long[] offBoardEnemies = new long[16];
+    private long[] hitPositions = new long[16];
+    // The off-board enemies themselves, which the grid counts but does not store.
+    private final List<SpaceObject> offBoardEnemyObjects = new ArrayList<>();
+    // The motion of objects[i], advanced in bulk by updateGame().
+    private final MotionSystem motions = new MotionSystem();
+    // The motion newly spawned objects get, by EntityType tag; null for the usual.
+    private final Motion[] spawnMotions = new Motion[EntityType.SHIELD_POWER_UP + 1];
+    // Enemies grouped by column, rebuilt by each swept collision pass.
+    private final ColumnIndex enemyColumns;
+    private final GameConfig config;
+    // Everything that happens is published here; the logger is one of the listeners.
+    private final GameEventBus events = new GameEventBus();
+    private int currentTick;
+    // When set, a copy of the state is published here after every updateGame().
+    private FrameBuffer frames;
+    // When set, spawns reuse objects from here and removed objects are returned to it.
+    private ObjectPool pool;
+    // When set, every phase of a tick is timed and counted here.
+    private GameMetrics metrics;
+    // When set, spawnObjects() plays this back instead of rolling every tick.
+    private SpawnSchedule schedule;
+    // Index of the next entry of schedule to spawn.
+    private int scheduleCursor;
+    // Length of each generated wave, or 0 to keep a set schedule until it is replaced.
+    private int waveLength;
+    // When set, ticks over its threshold are split across a ForkJoinPool.
+    private ParallelTick parallel;
+    // Collisions found by the current checkCollisions() call.
+    private int collisions;
     // Ship is stored separately; it is NOT part of the objects list.
     private Ship ship;
-    private int level = START_LEVEL;
-    private int spawnRate = START_SPAWN_RATE;
+    private int level;
+    private int spawnRate;
 
     /**
      * Models a game, storing and modifying data relevant to the game.
@@ -44,14 +121,104 @@ public class GameModel {
      * - Instantiates the game level with the starting level value.
      * - Instantiates the game spawn rate with the starting spawn rate.
      * - Instantiates a new ship.
-     * - Stores reference to the given logger.
+     * - Subscribes the given logger to the model's events.
      *
      * @param logger a functional interface for passing information between classes.
      */
     public GameModel(Logger logger) {
-        this.logger = logger;
+        this(logger, GameConfig.DEFAULT);
+    }
+
+    /**
+     * Models a game using the board size and balancing values of the given configuration
+     * instead of the defaults declared by this class.
+     *
+     * @param logger a functional interface for passing information between classes.
+     * @param config the configuration for this model.
+     */
+    public GameModel(Logger logger, GameConfig config) {
+        events.subscribe(new LoggingListener(logger));
+        this.config = config;
+        this.level = config.getStartLevel();
+        this.spawnRate = config.getStartSpawnRate();
+        this.grid = new SpatialGrid(config.getWidth(), config.getHeight());
+        this.enemyColumns = new ColumnIndex(config.getWidth());
         // Create the default ship at the middle-bottom of the screen.
-        this.ship = new Ship(GAME_WIDTH / 2, GAME_HEIGHT - 2, 100);
+        this.ship = new Ship(config.getWidth() / 2, config.getHeight() - 2, 100,
+                config.getWidth(), config.getHeight());
+    }
+
+    /**
+     * Returns the bus on which this model publishes game events.
+     * Subscribe to it to react to collisions, bullets fired and level ups without
+     * parsing log messages. The logger given to the constructor is already subscribed.
+     *
+     * @return the model's event bus.
+     */
+    public GameEventBus getEvents() {
+        return events;
+    }
+
+    /**
+     * Publishes a Frame of the model's state to the given buffer at the end of every
+     * updateGame(), so another thread can draw it without touching the live objects.
+     * Only updateGame() publishes; the separate stages called by GameController.onTick()
+     * do not.
+     *
+     * @param frames the buffer to publish to, or null to stop publishing.
+     */
+    public void setFrameBuffer(FrameBuffer frames) {
+        this.frames = frames;
+    }
+
+    /**
+     * Makes the model reuse objects: spawned and fired objects are taken from the pool,
+     * and objects culled or destroyed are recycled into it. Only use a pool if nothing
+     * outside the model keeps references to objects after they leave the game, since
+     * a recycled object reappears later as a different spawn.
+     *
+     * @param pool the pool to use, or null to allocate every object (the default).
+     */
+    public void setObjectPool(ObjectPool pool) {
+        this.pool = pool;
+    }
+
+    /**
+     * Returns the object pool in use, e.g. to read its counters.
+     *
+     * @return the pool, or null if objects are not pooled.
+     */
+    public ObjectPool getObjectPool() {
+        return pool;
+    }
+
+    /**
+     * Instruments the model: each phase of updateGame(), spawnObjects(), levelUp() and
+     * checkCollisions() is timed, and spawns, removals, collisions and live object
+     * counts are reported to the given metrics.
+     *
+     * @param metrics the metrics to report to, or null to turn instrumentation off.
+     */
+    public void setMetrics(GameMetrics metrics) {
+        this.metrics = metrics;
+    }
+
+    /**
+     * Returns the metrics the model reports to.
+     *
+     * @return the metrics, or null if the model is not instrumented.
+     */
+    public GameMetrics getMetrics() {
+        return metrics;
+    }
+
+    /**
+     * Returns the configuration this model was created with.
+     *
+     * @return the model's configuration.
+     */
+    public GameConfig getConfig() {
+        return config;
     }
 
     /**
@@ -64,6 +231,136 @@ public class GameModel {
      */
     public void setRandomSeed(int seed) {
         random.setSeed(seed);
+        Arrays.fill(streams, random);
+    }
+
+    /**
+     * Makes every spawn category draw from the given source, in the call order
+     * documented on spawnObjects(). With a StatefulRandom this is equivalent to
+     * setRandomSeed().
+     *
+     * @param source the source to draw from.
+     */
+    public void setRandomSource(RandomSource source) {
+        Arrays.fill(streams, source);
+    }
+
+    /**
+     * Gives each spawn category its own stream, split from the given root in
+     * SpawnCategory order. A category then draws the same numbers however many
+     * numbers the others use, so adding a category or changing another's spawn chance
+     * does not change where existing ones spawn.
+     *
+     * Example: model.setRandomStreams(new SplitMixRandom(seed));
+     *
+     * @param root the source to split the streams from.
+     */
+    public void setRandomStreams(RandomSource root) {
+        for (int i = 0; i < streams.length; i++) {
+            streams[i] = root.split();
+        }
+    }
+
+    /**
+     * Spawns in waves: at the start of each wave, spawnObjects() generates the next
+     * waveLength ticks of spawns in one batch with SpawnSchedule.generate(), then
+     * spawns each tick's entries as it arrives. A level up discards the rest of the
+     * wave, so the next tick starts a new one at the new spawn rate. Unlike rolling
+     * every tick, spawn rates above 100% keep adding objects.
+     *
+     * A snapshot does not hold the current wave; a restored model starts a new one.
+     *
+     * @param waveLength the number of ticks per wave, or 0 to roll every tick again.
+     * @throws IllegalArgumentException if waveLength is negative.
+     */
+    public void setWaveSpawning(int waveLength) {
+        if (waveLength < 0) {
+            throw new IllegalArgumentException("Wave length must not be negative: "
+                    + waveLength);
+        }
+        this.waveLength = waveLength;
+        this.schedule = null;
+    }
+
+    /**
+     * Plays back the given schedule instead of rolling for spawns every tick.
+     * Entries spawn on the first spawnObjects() call at or after their tick; entries
+     * for ticks before the current one are skipped. Turns off wave spawning.
+     *
+     * @param schedule the schedule to play, or null to roll every tick again.
+     */
+    public void setSpawnSchedule(SpawnSchedule schedule) {
+        this.waveLength = 0;
+        this.schedule = schedule;
+        this.scheduleCursor = schedule == null ? 0 : schedule.indexOf(currentTick);
+    }
+
+    /**
+     * Returns the schedule spawnObjects() is playing back.
+     *
+     * @return the current schedule or wave, or null if spawns are rolled every tick.
+     */
+    public SpawnSchedule getSpawnSchedule() {
+        return schedule;
+    }
+
+    /**
+     * Returns the source the given spawn category draws from.
+     *
+     * @param category the spawn category.
+     * @return the category's random source.
+     */
+    public RandomSource getRandomSource(SpawnCategory category) {
+        return streams[category.ordinal()];
+    }
+
+    /**
+     * Sets how collisions are detected. Defaults to CollisionMode.DISCRETE.
+     *
+     * @param mode the collision mode to use from the next collision check on.
+     */
+    public void setCollisionMode(CollisionMode mode) {
+        if (mode != null) {
+            collisionMode = mode;
+        }
+    }
+
+    /**
+     * Splits ticks with at least DEFAULT_PARALLEL_THRESHOLD objects across the given
+     * pool, see setParallelism(ForkJoinPool, int).
+     *
+     * @param pool the pool to use, or null to run every tick on the calling thread.
+     */
+    public void setParallelism(ForkJoinPool pool) {
+        setParallelism(pool, DEFAULT_PARALLEL_THRESHOLD);
+    }
+
+    /**
+     * Splits ticks with at least the given number of objects across the given pool.
+     * The object list is cut into contiguous ranges of indices; moving the objects and
+     * finding collisions with the ship and between bullets and enemies then run on all
+     * ranges at once. Each range records what it found, and the results are applied on
+     * the calling thread in list order, so removals, score and events are exactly those
+     * of the sequential path. Re-indexing, culling and the swept collision check stay
+     * on the calling thread. Smaller ticks run sequentially.
+     *
+     * Objects moving through their own tick() must not depend on each other's state
+     * while the pool moves them.
+     *
+     * @param pool the pool to use, or null to run every tick on the calling thread.
+     * @param threshold the fewest objects for which a tick is split.
+     */
+    public void setParallelism(ForkJoinPool pool, int threshold) {
+        this.parallel = pool == null ? null : new ParallelTick(pool, threshold);
+    }
+
+    /**
+     * Returns how collisions are currently detected.
+     *
+     * @return the current collision mode.
+     */
+    public CollisionMode getCollisionMode() {
+        return collisionMode;
     }
 
     /**
@@ -72,38 +369,132 @@ public class GameModel {
      * @param object the SpaceObject to be added.
      */
     public void addObject(SpaceObject object) {
+        addObject(object, null);
+    }
+
+    /**
+     * Adds a SpaceObject to the game which moves with the given motion instead of its
+     * usual one, e.g. an Enemy that homes in on the ship.
+     *
+     * @param object the SpaceObject to be added.
+     * @param motion how it moves each tick, or null for its usual movement.
+     * @throws IllegalArgumentException if a motion is given for an object which is not
+     *                                  an Asteroid, Enemy, Bullet or PowerUp.
+     */
+    public void addObject(SpaceObject object, Motion motion) {
         if (object != null) {
+            syncGrid();
+            motions.add(object, motion);
+            types.add(object);
+            int index = objects.size();
+            ensureCapacity(index + 1);
+            gridX[index] = object.getX();
+            gridY[index] = object.getY();
             objects.add(object);
+            grid.add(object);
         }
     }
 
+    /**
+     * Sets the motion of objects spawned from now on with the given type, e.g.
+     * setSpawnMotion(EntityType.ENEMY, Motion.DOWN.withPattern(Motion.zigZag(2))).
+     * Applies to spawnObjects() and, for bullets, fireBullet().
+     *
+     * @param type the EntityType tag.
+     * @param motion the motion, or null for the type's usual movement.
+     * @throws IllegalArgumentException if the type tag is unknown.
+     */
+    public void setSpawnMotion(byte type, Motion motion) {
+        if (type < 0 || type >= spawnMotions.length) {
+            throw new IllegalArgumentException("Unknown type tag " + type);
+        }
+        spawnMotions[type] = motion;
+    }
+
     /**
      * Returns the list of all SpaceObjects currently tracked by the game.
+     * The list is live and may be modified; any change to it makes the next tick or
+     * collision check re-index every object, and objects added through it move with
+     * their usual motion.
      *
      * @return the list of SpaceObjects.
      */
     public List<SpaceObject> getSpaceObjects() {
-        return objects;
+        return view;
     }
 
     /**
      * Updates the game state by moving all objects and removing off-screen objects.
      * An object is off-screen if its y-coordinate > GAME_HEIGHT.
+     * Objects are moved by their Motion in one pass, see MotionSystem; objects of other
+     * classes move through their own tick().
+     * Objects are moved by index and culled by compacting the list in place, so once
+     * the internal buffers have grown a tick allocates nothing apart from newly
+     * spawned objects and log messages.
      *
      * @param tick the current tick value.
      */
     public void updateGame(int tick) {
-        // Move all objects.
-        for (SpaceObject obj : new ArrayList<>(objects)) {
-            obj.tick(tick);
+        long start = metrics == null ? 0 : System.nanoTime();
+        currentTick = tick;
+        syncGrid();
+        int count = objects.size();
+        // Move all objects, remembering where they came from, then re-index each one.
+        if (isSplit(count)) {
+            int targetX = ship.getX();
+            int[] fromX = previousX;
+            int[] fromY = previousY;
+            parallel.run(count, (from, to, out) ->
+                    motions.advance(objects, from, to, tick, targetX, fromX, fromY));
+        } else {
+            motions.advance(objects, tick, ship.getX(), previousX, previousY);
+        }
+        for (int i = 0; i < count; i++) {
+            reindex(i, objects.get(i));
+        }
+        long culling = lap(GameMetrics.Phase.MOVE, start);
+        // Remove off-screen objects, compacting the previous positions alongside.
+        int kept = 0;
+        for (int i = 0; i < count; i++) {
+            SpaceObject obj = objects.get(i);
+            if (obj.getY() > config.getHeight()) {
+                grid.remove(obj);
+                if (pool != null) {
+                    pool.recycle(obj);
+                }
+                continue;
+            }
+            objects.set(kept, obj);
+            motions.copy(i, kept);
+            types.copy(i, kept);
+            previousX[kept] = previousX[i];
+            previousY[kept] = previousY[i];
+            gridX[kept] = gridX[i];
+            gridY[kept] = gridY[i];
+            kept++;
+        }
+        for (int i = count - 1; i >= kept; i--) {
+            objects.remove(i);
+        }
+        motions.truncate(kept);
+        types.truncate(kept);
+        moved = kept;
+        if (metrics != null) {
+            lap(GameMetrics.Phase.CULL, culling);
+            metrics.recordRemoved(count - kept, 0);
         }
-        // Remove off-screen objects.
-        objects.removeIf(obj -> obj.getY() > GAME_HEIGHT);
         // For tick > 0, spawn new objects, level up, and check collisions.
         if (tick > 0) {
             spawnObjects();
             levelUp();
-            checkCollisions();
+            collide();
+        }
+        if (metrics != null) {
+            recordObjectCounts();
+            lap(GameMetrics.Phase.TICK, start);
+        }
+        if (frames != null) {
+            frames.publish(tick, level, ship, objects);
         }
     }
 
@@ -118,52 +509,384 @@ public class GameModel {
      * </ul>
      * Then, checks collisions between Bullets and Enemies; if colliding, both are removed.
      * </p>
+     * In CollisionMode.SWEPT, an object also collides if its path during the last
+     * updateGame() crossed the ship or an oncoming object in the same column.
+     * Objects moved since the last updateGame(), e.g. by their own methods, are
+     * re-indexed at their current positions first.
      */
     public void checkCollisions() {
-        List<SpaceObject> toRemove = new ArrayList<>();
+        syncGrid();
+        for (int i = 0; i < objects.size(); i++) {
+            reindex(i, objects.get(i));
+        }
+        collide();
+    }
+
+    /**
+     * Runs the collision checks documented on checkCollisions(), with every object
+     * already indexed at its current position.
+     */
+    private void collide() {
+        long start = metrics == null ? 0 : System.nanoTime();
+        collisions = 0;
+        syncGrid();
+        removals.clear();
+        boolean swept = collisionMode == CollisionMode.SWEPT;
 
         // Check collisions between ship and other objects.
-        for (SpaceObject obj : new ArrayList<>(objects)) {
-            if (obj.getX() == ship.getX() && obj.getY() == ship.getY()) {
-                if (obj instanceof HealthPowerUp || obj instanceof ShieldPowerUp) {
-                    if (obj instanceof HealthPowerUp) {
-                        ((HealthPowerUp) obj).applyEffect(ship);
-                    } else {
-                        ((ShieldPowerUp) obj).applyEffect(ship);
+        // The list is only walked when something occupies the ship's cell, and then
+        // in list order so the log output matches a plain scan.
+        if (swept || !grid.isOnBoard(ship.getX(), ship.getY())
+                || !grid.isEmpty(ship.getX(), ship.getY())) {
+            if (isSplit(objects.size())) {
+                int chunks = parallel.run(objects.size(), (from, to, out) -> {
+                    for (int i = from; i < to; i++) {
+                        if (canHitShip(types.typeAt(i)) && hitsShip(i, objects.get(i), swept)) {
+                            out.add(i, objects.get(i));
+                        }
+                    }
+                });
+                for (int c = 0; c < chunks; c++) {
+                    ParallelTick.Hits hits = parallel.hits(c);
+                    for (int k = 0; k < hits.size(); k++) {
+                        hitShip(hits.index(k), hits.object(k));
+                    }
+                }
+            } else {
+                for (int i = 0; i < objects.size(); i++) {
+                    if (canHitShip(types.typeAt(i)) && hitsShip(i, objects.get(i), swept)) {
+                        hitShip(i, objects.get(i));
                     }
-                    logger.log("Power-up collected: " + obj.render().toString());
-                    toRemove.add(obj);
-                } else if (obj instanceof Asteroid) {
-                    ship.takeDamage(ASTEROID_DAMAGE);
-                    logger.log("Hit by asteroid! Health reduced by " + ASTEROID_DAMAGE + ".");
-                    toRemove.add(obj);
-                } else if (obj instanceof Enemy) {
-                    ship.takeDamage(ENEMY_DAMAGE);
-                    logger.log("Hit by enemy! Health reduced by " + ENEMY_DAMAGE + ".");
-                    toRemove.add(obj);
                 }
             }
         }
 
         // Check collisions between Bullets and Enemies.
-        List<SpaceObject> bulletCollisions = new ArrayList<>();
-        for (SpaceObject a : new ArrayList<>(objects)) {
-            if (a instanceof Bullet) {
-                for (SpaceObject b : new ArrayList<>(objects)) {
+        if (swept) {
+            sweptBulletCollisions();
+        } else {
+            gridBulletCollisions();
+        }
+        // Previous positions only describe the latest move; later checks are discrete.
+        moved = 0;
+        int destroyed = removeMarked();
+
+        // If ship's health is zero or below, log game over.
+        if (ship.getHealth() <= 0) {
+            publish(GameEventType.GAME_OVER, ship, ship.getHealth(), 0);
+        }
+        if (metrics != null) {
+            metrics.recordCollisions(collisions);
+            metrics.recordRemoved(0, destroyed);
+            lap(GameMetrics.Phase.COLLISIONS, start);
+        }
+    }
+
+    /**
+     * Returns whether objects with the given EntityType tag collide with the ship.
+     * Bullets and other kinds of object pass through it.
+     */
+    private static boolean canHitShip(byte type) {
+        return type != EntityType.BULLET && type != EntityType.OTHER;
+    }
+
+    /**
+     * Applies the effect of an object colliding with the ship and marks it for removal.
+     */
+    private void hitShip(int i, SpaceObject obj) {
+        // Dispatch on the object itself: the tag only narrows down which ones to test.
+        if (obj instanceof PowerUpEffect) {
+            ((PowerUpEffect) obj).applyEffect(ship);
+            publish(GameEventType.POWER_UP_COLLECTED, obj, 0, 0);
+        } else if (obj instanceof Asteroid) {
+            ship.takeDamage(config.getAsteroidDamage());
+            publish(GameEventType.ASTEROID_HIT, obj, config.getAsteroidDamage(), 0);
+        } else if (obj instanceof Enemy) {
+            ship.takeDamage(config.getEnemyDamage());
+            publish(GameEventType.ENEMY_HIT, obj, config.getEnemyDamage(), 0);
+        } else {
+            return;
+        }
+        collisions++;
+        removals.set(i);
+    }
+
+    /**
+     * Marks each Bullet and every Enemy in the same cell as it for removal.
+     * Only the bullet and enemy populations are visited. Bullets off the board are
+     * only compared with the off-board enemies when one is at exactly their position,
+     * so bullets that flew off the top never search each other.
+     */
+    private void gridBulletCollisions() {
+        int offBoard = collectOffBoardEnemies();
+        if (isSplit(types.count(EntityType.BULLET))) {
+            splitBulletCollisions(offBoard);
+            return;
+        }
+        int[] bullets = types.indices(EntityType.BULLET);
+        int bulletCount = types.count(EntityType.BULLET);
+        int hits = 0;
+        for (int k = 0; k < bulletCount; k++) {
+            int i = bullets[k];
+            SpaceObject a = objects.get(i);
+            if (mayMeetEnemy(a, offBoard)) {
+                List<SpaceObject> cell = candidatesFor(a);
+                for (int j = 0; j < cell.size(); j++) {
+                    SpaceObject b = cell.get(j);
                     if (b instanceof Enemy && a.getX() == b.getX() && a.getY() == b.getY()) {
-                        bulletCollisions.add(a);
-                        bulletCollisions.add(b);
+                        removals.set(i);
+                        hits = addHitPosition(hits, a);
+                        collisions++;
+                        publish(GameEventType.ENEMY_DESTROYED, b, 0, 0);
                     }
                 }
             }
         }
-        toRemove.addAll(bulletCollisions);
-        objects.removeAll(toRemove);
+        if (hits == 0) {
+            return;
+        }
+        // The grid does not know list indices, so find the hit enemies from their side:
+        // an enemy is hit exactly when a bullet that hit something shares its position.
+        Arrays.sort(hitPositions, 0, hits);
+        int[] enemies = types.indices(EntityType.ENEMY);
+        int enemyCount = types.count(EntityType.ENEMY);
+        for (int k = 0; k < enemyCount; k++) {
+            int j = enemies[k];
+            if (!removals.get(j) && isHitPosition(objects.get(j), hits)) {
+                removals.set(j);
+            }
+        }
+    }
 
-        // If ship's health is zero or below, log game over.
-        if (ship.getHealth() <= 0) {
-            logger.log("Game Over: Ship destroyed.");
+    /**
+     * Does the same as gridBulletCollisions() with the scans split across the pool.
+     */
+    private void splitBulletCollisions(int offBoard) {
+        int[] bullets = types.indices(EntityType.BULLET);
+        int chunks = parallel.run(types.count(EntityType.BULLET), (from, to, out) -> {
+            for (int k = from; k < to; k++) {
+                SpaceObject a = objects.get(bullets[k]);
+                if (mayMeetEnemy(a, offBoard)) {
+                    List<SpaceObject> cell = candidatesFor(a);
+                    for (int j = 0; j < cell.size(); j++) {
+                        SpaceObject b = cell.get(j);
+                        if (b instanceof Enemy && a.getX() == b.getX() && a.getY() == b.getY()) {
+                            out.add(bullets[k], b);
+                        }
+                    }
+                }
+            }
+        });
+        int hits = 0;
+        for (int c = 0; c < chunks; c++) {
+            ParallelTick.Hits found = parallel.hits(c);
+            for (int k = 0; k < found.size(); k++) {
+                removals.set(found.index(k));
+                hits = addHitPosition(hits, objects.get(found.index(k)));
+                collisions++;
+                publish(GameEventType.ENEMY_DESTROYED, found.object(k), 0, 0);
+            }
+        }
+        if (hits == 0) {
+            return;
+        }
+        Arrays.sort(hitPositions, 0, hits);
+        int[] enemies = types.indices(EntityType.ENEMY);
+        int sorted = hits;
+        chunks = parallel.run(types.count(EntityType.ENEMY), (from, to, out) -> {
+            for (int k = from; k < to; k++) {
+                int j = enemies[k];
+                if (!removals.get(j) && isHitPosition(objects.get(j), sorted)) {
+                    out.add(j, null);
+                }
+            }
+        });
+        for (int c = 0; c < chunks; c++) {
+            ParallelTick.Hits found = parallel.hits(c);
+            for (int k = 0; k < found.size(); k++) {
+                removals.set(found.index(k));
+            }
+        }
+    }
+
+    /**
+     * Sorts the positions of every enemy off the board into offBoardEnemies, and
+     * collects the enemies themselves in offBoardEnemyObjects.
+     *
+     * @return the number of off-board enemies.
+     */
+    private int collectOffBoardEnemies() {
+        int[] enemies = types.indices(EntityType.ENEMY);
+        int enemyCount = types.count(EntityType.ENEMY);
+        int count = 0;
+        offBoardEnemyObjects.clear();
+        for (int k = 0; k < enemyCount; k++) {
+            SpaceObject obj = objects.get(enemies[k]);
+            if (!grid.isOnBoard(obj.getX(), obj.getY())) {
+                offBoardEnemyObjects.add(obj);
+                if (count == offBoardEnemies.length) {
+                    offBoardEnemies = Arrays.copyOf(offBoardEnemies, count * 2);
+                }
+                offBoardEnemies[count++] = key(obj.getX(), obj.getY());
+            }
+        }
+        Arrays.sort(offBoardEnemies, 0, count);
+        return count;
+    }
+
+    /**
+     * Returns whether an enemy may be at the bullet's position: always on the board,
+     * and off it only if one of the sorted off-board enemies is exactly there.
+     */
+    private boolean mayMeetEnemy(SpaceObject bullet, int offBoard) {
+        return grid.isOnBoard(bullet.getX(), bullet.getY()) || (offBoard > 0
+                && Arrays.binarySearch(offBoardEnemies, 0, offBoard,
+                        key(bullet.getX(), bullet.getY())) >= 0);
+    }
+
+    /**
+     * Returns the objects which may share the bullet's position: its grid cell on the
+     * board, or else the off-board enemies, which the grid does not store.
+     */
+    private List<SpaceObject> candidatesFor(SpaceObject bullet) {
+        return grid.isOnBoard(bullet.getX(), bullet.getY())
+                ? grid.objectsAt(bullet.getX(), bullet.getY()) : offBoardEnemyObjects;
+    }
+
+    private int addHitPosition(int hits, SpaceObject bullet) {
+        if (hits == hitPositions.length) {
+            hitPositions = Arrays.copyOf(hitPositions, hits * 2);
+        }
+        hitPositions[hits] = key(bullet.getX(), bullet.getY());
+        return hits + 1;
+    }
+
+    private boolean isHitPosition(SpaceObject obj, int hits) {
+        return Arrays.binarySearch(hitPositions, 0, hits, key(obj.getX(), obj.getY())) >= 0;
+    }
+
+    /**
+     * Packs a position into one sortable long.
+     */
+    private static long key(int x, int y) {
+        return ((long) x << 32) | (y & 0xFFFFFFFFL);
+    }
+
+    /**
+     * Returns whether a tick over the given number of objects is split across the pool.
+     */
+    private boolean isSplit(int count) {
+        return parallel != null && parallel.appliesTo(count);
+    }
+
+    /**
+     * Removes every object marked in removals with one compacting sweep over the list,
+     * keeping the order of the rest. Objects marked more than once are removed once.
+     *
+     * @return the number of objects removed.
+     */
+    private int removeMarked() {
+        int first = removals.nextSetBit(0);
+        if (first < 0) {
+            return 0;
+        }
+        int count = objects.size();
+        int kept = first;
+        for (int i = first; i < count; i++) {
+            SpaceObject obj = objects.get(i);
+            if (removals.get(i)) {
+                grid.remove(obj);
+                if (pool != null) {
+                    pool.recycle(obj);
+                }
+            } else {
+                motions.copy(i, kept);
+                types.copy(i, kept);
+                gridX[kept] = gridX[i];
+                gridY[kept] = gridY[i];
+                objects.set(kept++, obj);
+            }
+        }
+        for (int i = count - 1; i >= kept; i--) {
+            objects.remove(i);
         }
+        motions.truncate(kept);
+        types.truncate(kept);
+        removals.clear();
+        return count - kept;
+    }
+
+    /**
+     * Marks each Bullet and every Enemy whose path met it during the last move for removal.
+     * Enemies are indexed by column first, so each bullet only visits its own column.
+     */
+    private void sweptBulletCollisions() {
+        enemyColumns.clear(objects.size());
+        int[] enemies = types.indices(EntityType.ENEMY);
+        for (int k = types.count(EntityType.ENEMY) - 1; k >= 0; k--) {
+            enemyColumns.add(objects.get(enemies[k]).getX(), enemies[k]);
+        }
+        int[] bullets = types.indices(EntityType.BULLET);
+        int bulletCount = types.count(EntityType.BULLET);
+        for (int k = 0; k < bulletCount; k++) {
+            int i = bullets[k];
+            SpaceObject a = objects.get(i);
+            for (int j = enemyColumns.first(a.getX()); j != ColumnIndex.END;
+                    j = enemyColumns.next(j)) {
+                SpaceObject b = objects.get(j);
+                if (pathsMeet(i, a, j, b)) {
+                    removals.set(i);
+                    removals.set(j);
+                    collisions++;
+                    publish(GameEventType.ENEMY_DESTROYED, b, 0, 0);
+                }
+            }
+        }
+    }
+
+    /**
+     * Returns whether the object at the given index collides with the ship.
+     *
+     * @param index the object's index in objects.
+     * @param obj the object.
+     * @param swept whether to test the object's whole path rather than its end position.
+     * @return true if the object hits the ship.
+     */
+    private boolean hitsShip(int index, SpaceObject obj, boolean swept) {
+        if (obj.getX() == ship.getX() && obj.getY() == ship.getY()) {
+            return true;
+        }
+        if (!swept || index >= moved || obj.getX() != ship.getX()
+                || previousX[index] != ship.getX()) {
+            return false;
+        }
+        int fromY = previousY[index];
+        return Math.min(fromY, obj.getY()) <= ship.getY()
+                && ship.getY() <= Math.max(fromY, obj.getY());
+    }
+
+    /**
+     * Returns whether two objects met at any point while moving from their previous
+     * positions to their current ones. Objects which stayed in one column are treated
+     * as moving along it at a constant speed; any other move is only checked at its end.
+     *
+     * @param i the index of the first object in objects.
+     * @param a the first object.
+     * @param j the index of the second object in objects.
+     * @param b the second object.
+     * @return true if the paths meet.
+     */
+    private boolean pathsMeet(int i, SpaceObject a, int j, SpaceObject b) {
+        if (a.getX() == b.getX() && a.getY() == b.getY()) {
+            return true;
+        }
+        if (i >= moved || j >= moved || a.getX() != b.getX()
+                || previousX[i] != a.getX() || previousX[j] != b.getX()) {
+            return false;
+        }
+        int before = previousY[i] - previousY[j];
+        int after = a.getY() - b.getY();
+        return (before <= 0 && after >= 0) || (before >= 0 && after <= 0);
     }
 
     /**
@@ -180,30 +903,73 @@ public class GameModel {
      *       and then use random.nextBoolean() to determine which type: ShieldPowerUp if true, otherwise HealthPowerUp.</li>
      * </ol>
      * </p>
+     * When setRandomStreams() has been called, each step draws from its category's own
+     * stream instead of the shared Random. With a spawn schedule or wave spawning set,
+     * the entries due at the current tick are spawned instead, see setWaveSpawning().
      */
     public void spawnObjects() {
+        long start = metrics == null ? 0 : System.nanoTime();
+        int before = objects.size();
+        if (waveLength > 0 || schedule != null) {
+            spawnScheduled();
+        } else {
+            rollSpawns();
+        }
+        if (metrics != null) {
+            metrics.recordSpawned(objects.size() - before);
+            lap(GameMetrics.Phase.SPAWN, start);
+        }
+    }
+
+    /**
+     * Spawns the schedule's entries up to the current tick, first generating a new
+     * wave if wave spawning is on and the current one has run out.
+     */
+    private void spawnScheduled() {
+        if (waveLength > 0 && (schedule == null || currentTick >= schedule.getEndTick())) {
+            schedule = SpawnSchedule.generate(config, spawnRate, currentTick, waveLength,
+                    this::getRandomSource);
+            scheduleCursor = 0;
+        }
+        int end = schedule.size();
+        while (scheduleCursor < end && schedule.getTick(scheduleCursor) <= currentTick) {
+            int x = schedule.getX(scheduleCursor);
+            if (x != ship.getX()) {
+                spawn(schedule.getType(scheduleCursor), x, 0);
+            }
+            scheduleCursor++;
+        }
+    }
+
+    /**
+     * Rolls for each kind of spawn, in the order documented on spawnObjects().
+     */
+    private void rollSpawns() {
         // Asteroid spawn.
+        RandomSource random = streams[SpawnCategory.ASTEROID.ordinal()];
         if (random.nextInt(100) < spawnRate) {
-            int x = random.nextInt(GAME_WIDTH);
+            int x = random.nextInt(config.getWidth());
             if (x != ship.getX()) {
-                addObject(new Asteroid(x, 0));
+                spawn(EntityType.ASTEROID, x, 0);
             }
         }
         // Enemy spawn.
-        if (random.nextInt(100) < spawnRate * ENEMY_SPAWN_RATE) {
-            int x = random.nextInt(GAME_WIDTH);
+        random = streams[SpawnCategory.ENEMY.ordinal()];
+        if (random.nextInt(100) < spawnRate * config.getEnemySpawnRate()) {
+            int x = random.nextInt(config.getWidth());
             if (x != ship.getX()) {
-                addObject(new Enemy(x, 0));
+                spawn(EntityType.ENEMY, x, 0);
             }
         }
         // PowerUp spawn.
-        if (random.nextInt(100) < spawnRate * POWER_UP_SPAWN_RATE) {
-            int x = random.nextInt(GAME_WIDTH);
+        random = streams[SpawnCategory.POWER_UP.ordinal()];
+        if (random.nextInt(100) < spawnRate * config.getPowerUpSpawnRate()) {
+            int x = random.nextInt(config.getWidth());
             if (x != ship.getX()) {
                 if (random.nextBoolean()) {
-                    addObject(new ShieldPowerUp(x, 0));
+                    spawn(EntityType.SHIELD_POWER_UP, x, 0);
                 } else {
-                    addObject(new HealthPowerUp(x, 0));
+                    spawn(EntityType.HEALTH_POWER_UP, x, 0);
                 }
             }
         }
@@ -215,12 +981,16 @@ public class GameModel {
      * Logs "Level Up! Welcome to Level {new level}. Spawn rate increased to {new spawn rate}%."
      */
     public void levelUp() {
-        if (ship.getScore() >= level * SCORE_THRESHOLD) {
+        long start = metrics == null ? 0 : System.nanoTime();
+        if (ship.getScore() >= level * config.getScoreThreshold()) {
             level++;
-            spawnRate += SPAWN_RATE_INCREASE;
-            logger.log("Level Up! Welcome to Level " + level
-                     + ". Spawn rate increased to " + spawnRate + "%.");
+            spawnRate += config.getSpawnRateIncrease();
+            if (waveLength > 0) {
+                schedule = null; // The next tick starts a wave at the new rate.
+            }
+            publish(GameEventType.LEVEL_UP, ship, level, spawnRate);
         }
+        lap(GameMetrics.Phase.LEVEL_UP, start);
     }
 
     /**
@@ -228,12 +998,78 @@ public class GameModel {
      * Creates a new Bullet at (ship.getX(), ship.getY()) and logs "Core.Bullet fired!".
      */
     public void fireBullet() {
+        SpaceObject bullet;
         if (ship != null) {
-            addObject(new Bullet(ship.getX(), ship.getY()));
-            logger.log("Core.Bullet fired!");
+            bullet = newObject(EntityType.BULLET, ship.getX(), ship.getY());
         } else {
-            addObject(new Bullet(5, GAME_HEIGHT - 2));
-            logger.log("Core.Bullet fired!");
+            bullet = newObject(EntityType.BULLET, 5, config.getHeight() - 2);
+        }
+        addObject(bullet, spawnMotions[EntityType.BULLET]);
+        publish(GameEventType.BULLET_FIRED, bullet, 0, 0);
+        if (metrics != null) {
+            metrics.recordSpawned(1);
+        }
+    }
+
+    /**
+     * Publishes an event located at the given object's position.
+     *
+     * @param type what happened.
+     * @param obj the object involved, which also gives the position.
+     * @param value the event's main value.
+     * @param secondValue the event's second value.
+     */
+    private void publish(GameEventType type, SpaceObject obj, int value, int secondValue) {
+        events.publish(type, currentTick, obj.getX(), obj.getY(), value, secondValue,
+                obj instanceof Ship ? null : obj);
+    }
+
+    /**
+     * Re-indexes every object if the list was modified without going through addObject(),
+     * e.g. by a caller adding to, replacing in or removing from getSpaceObjects()
+     * directly. Objects then move with their usual motion.
+     */
+    private void syncGrid() {
+        int count = objects.size();
+        if (!listChanged && grid.size() == count && motions.size() == count
+                && types.size() == count) {
+            return;
+        }
+        ensureCapacity(count);
+        for (int i = 0; i < count; i++) {
+            gridX[i] = objects.get(i).getX();
+            gridY[i] = objects.get(i).getY();
+        }
+        grid.rebuild(objects);
+        motions.rebuild(objects);
+        types.rebuild(objects);
+        moved = 0;
+        listChanged = false;
+    }
+
+    /**
+     * Moves the object at the given index to the grid cell of its current position.
+     */
+    private void reindex(int i, SpaceObject obj) {
+        int x = obj.getX();
+        int y = obj.getY();
+        if (x != gridX[i] || y != gridY[i]) {
+            grid.move(obj, gridX[i], gridY[i]);
+            gridX[i] = x;
+            gridY[i] = y;
+        }
+    }
+
+    /**
+     * Grows the arrays kept by list index to hold at least the given number of objects.
+     */
+    private void ensureCapacity(int count) {
+        if (gridX.length < count) {
+            int length = Math.max(count, gridX.length * 2);
+            gridX = Arrays.copyOf(gridX, length);
+            gridY = Arrays.copyOf(gridY, length);
+            previousX = Arrays.copyOf(previousX, length);
+            previousY = Arrays.copyOf(previousY, length);
         }
     }
 
@@ -254,4 +1090,168 @@ public class GameModel {
     public Ship getShip() {
         return ship;
     }
+
+    /**
+     * Reports the time since start for the given phase, if the model is instrumented.
+     *
+     * @return the current System.nanoTime(), or 0 if the model is not instrumented.
+     */
+    private long lap(GameMetrics.Phase phase, long start) {
+        if (metrics == null) {
+            return 0;
+        }
+        long now = System.nanoTime();
+        metrics.recordPhase(phase, now - start);
+        return now;
+    }
+
+    /**
+     * Reports the number of live objects of each type.
+     */
+    private void recordObjectCounts() {
+        metrics.recordObjectCounts(types.count(EntityType.ASTEROID),
+                types.count(EntityType.ENEMY), types.count(EntityType.BULLET),
+                types.count(EntityType.HEALTH_POWER_UP)
+                        + types.count(EntityType.SHIELD_POWER_UP)
+                        + types.count(EntityType.POWER_UP));
+    }
+
+    /**
+     * Returns a new object of the given type, taken from the pool if there is one.
+     */
+    private SpaceObject newObject(byte type, int x, int y) {
+        return pool == null ? EntityType.create(type, x, y) : pool.obtain(type, x, y);
+    }
+
+    /**
+     * Adds a new object of the given type with that type's spawn motion.
+     */
+    private void spawn(byte type, int x, int y) {
+        addObject(newObject(type, x, y), spawnMotions[type]);
+    }
+
+    /**
+     * Returns the current spawn rate, as a percentage chance per tick.
+     *
+     * @return the spawn rate.
+     */
+    int getSpawnRate() {
+        return spawnRate;
+    }
+
+    /**
+     * Returns the tick most recently passed to updateGame().
+     *
+     * @return the current tick.
+     */
+    int getCurrentTick() {
+        return currentTick;
+    }
+
+    /**
+     * Returns the motions of the objects, at the same indices as getSpaceObjects(), for
+     * GameSnapshot to read without building a Motion per object. Must not be modified.
+     *
+     * @return the motions, in sync with the object list.
+     */
+    MotionSystem getMotions() {
+        syncGrid();
+        return motions;
+    }
+
+    /**
+     * Returns the state of each spawn category's random source, for GameSnapshot.
+     *
+     * @return the generator states, indexed by SpawnCategory ordinal.
+     */
+    long[][] getRandomStates() {
+        long[][] states = new long[streams.length][];
+        for (int i = 0; i < streams.length; i++) {
+            states[i] = streams[i].getState();
+        }
+        return states;
+    }
+
+    /**
+     * Replaces the whole game state with the given values, for GameSnapshot.
+     * The previous objects and ship are discarded; event listeners are kept.
+     *
+     * @param tick the tick the state was taken at.
+     * @param level the level.
+     * @param spawnRate the spawn rate.
+     * @param randomStates the state of each spawn category's random source.
+     * @param mode the collision mode.
+     * @param ship the ship.
+     * @param restored the objects, which the model takes ownership of.
+     * @param restoredMotions the motion of each object, by index.
+     * @throws IllegalArgumentException if a random state does not fit the kind of
+     *                                  source its category currently uses.
+     */
+    void restoreState(int tick, int level, int spawnRate, long[][] randomStates,
+                      CollisionMode mode, Ship ship, List<SpaceObject> restored,
+                      Motion[] restoredMotions) {
+        for (int i = 0; i < streams.length; i++) {
+            streams[i].setState(randomStates[i]);
+        }
+        this.currentTick = tick;
+        this.level = level;
+        this.spawnRate = spawnRate;
+        this.collisionMode = mode;
+        this.ship = ship;
+        this.objects = restored;
+        this.removals.clear();
+        this.listChanged = true;
+        if (waveLength > 0) {
+            this.schedule = null;
+        } else if (schedule != null) {
+            this.scheduleCursor = schedule.indexOf(tick + 1);
+        }
+        syncGrid();
+        for (int i = 0; i < restoredMotions.length; i++) {
+            motions.setMotion(i, restored.get(i), restoredMotions[i]);
+        }
+    }
+
+    /**
+     * The list returned by getSpaceObjects(): reads and writes go straight to objects,
+     * and every write flags the indexes for rebuilding.
+     */
+    private class ObjectList extends AbstractList<SpaceObject> implements RandomAccess {
+        @Override
+        public SpaceObject get(int index) {
+            return objects.get(index);
+        }
+
+        @Override
+        public int size() {
+            return objects.size();
+        }
+
+        @Override
+        public SpaceObject set(int index, SpaceObject element) {
+            listChanged = true;
+            return objects.set(index, element);
+        }
+
+        @Override
+        public void add(int index, SpaceObject element) {
+            listChanged = true;
+            modCount++;
+            objects.add(index, element);
+        }
+
+        @Override
+        public SpaceObject remove(int index) {
+            listChanged = true;
+            modCount++;
+            return objects.remove(index);
+        }
+
+        @Override
+        protected void removeRange(int fromIndex, int toIndex) {
+            listChanged = true;
+            modCount++;
+            objects.subList(fromIndex, toIndex).clear();
+        }
+    }
 }
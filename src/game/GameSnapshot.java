@@ -0,0 +1,291 @@
+package game;
+
+import game.core.EntityType;
+import game.core.Motion;
+import game.core.MotionSystem;
+import game.core.Ship;
+import game.core.SpaceObject;
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A checkpoint of the full state of a GameModel: every tracked object, the ship's
+ * position, health and score, the level, spawn rate, collision mode, current tick and
+ * the state of each spawn category's random source. Restoring a snapshot into a model
+ * with the same board size lets the game continue exactly as the original would have.
+ *
+ * Snapshots are immutable and held in a compact, versioned binary layout rather than
+ * Java serialization, so capturing one costs a single buffer the size of the state:
+ * a 46-byte header (magic, version, board size, tick, level, spawn rate, collision
+ * mode, the ship's x, y, health and score, and the object count), then 17 bytes per
+ * object (a type tag, its position and its velocity), then the random state of each
+ * spawn category. A snapshot restores into a model whose categories use the same kind
+ * of RandomSource as the captured one, e.g. after the same setRandomStreams() call.
+ * Spawn motions are part of the model's setup in the same way and are not captured.
+ * Files are written through a FileChannel and memory-mapped on load.
+ *
+ * Example: checkpoint every 500 ticks with
+ * if (tick % 500 == 0) GameSnapshot.capture(model).save(path);
+ */
+public final class GameSnapshot {
+    private static final int MAGIC = 0x47534E50; // "GSNP"
+    private static final byte VERSION = 3;
+    private static final int HEADER_BYTES = 4 + 1 + 4 * 5 + 1 + 4 * 4 + 4;
+    private static final int OBJECT_BYTES = 1 + 4 * 4;
+
+    // Read-only view of the encoded state, positioned at 0.
+    private final ByteBuffer data;
+
+    private GameSnapshot(ByteBuffer data) {
+        this.data = data.asReadOnlyBuffer().order(ByteOrder.BIG_ENDIAN);
+    }
+
+    /**
+     * Captures the current state of the given model.
+     *
+     * @param model the model to capture.
+     * @return the snapshot.
+     * @throws IllegalArgumentException if the model tracks an object of a type other
+     *                                  than Asteroid, Enemy, Bullet, HealthPowerUp
+     *                                  or ShieldPowerUp, or one whose motion has a
+     *                                  MovementPattern, which cannot be encoded.
+     */
+    public static GameSnapshot capture(GameModel model) {
+        List<SpaceObject> objects = model.getSpaceObjects();
+        MotionSystem motions = model.getMotions();
+        long[][] randomStates = model.getRandomStates();
+        ByteBuffer out = ByteBuffer.allocate(HEADER_BYTES + OBJECT_BYTES * objects.size()
+                + randomBytes(randomStates));
+        GameConfig config = model.getConfig();
+        Ship ship = model.getShip();
+        out.putInt(MAGIC);
+        out.put(VERSION);
+        out.putInt(config.getWidth());
+        out.putInt(config.getHeight());
+        out.putInt(model.getCurrentTick());
+        out.putInt(model.getLevel());
+        out.putInt(model.getSpawnRate());
+        out.put((byte) model.getCollisionMode().ordinal());
+        out.putInt(ship.getX());
+        out.putInt(ship.getY());
+        out.putInt(ship.getHealth());
+        out.putInt(ship.getScore());
+        out.putInt(objects.size());
+        for (int i = 0; i < objects.size(); i++) {
+            SpaceObject obj = objects.get(i);
+            if (!EntityType.isCreatable(obj)) {
+                throw new IllegalArgumentException(
+                        "Cannot snapshot objects of type " + obj.getClass().getName());
+            }
+            if (motions.getPattern(i) != null) {
+                throw new IllegalArgumentException(
+                        "Cannot snapshot an object moving with a MovementPattern");
+            }
+            out.put(EntityType.typeOf(obj));
+            out.putInt(obj.getX());
+            out.putInt(obj.getY());
+            out.putInt(motions.getDx(i));
+            out.putInt(motions.getDy(i));
+        }
+        for (long[] state : randomStates) {
+            out.put((byte) state.length);
+            for (long value : state) {
+                out.putLong(value);
+            }
+        }
+        out.flip();
+        return new GameSnapshot(out);
+    }
+
+    /**
+     * Wraps a snapshot previously obtained from toByteBuffer(), after checking its
+     * header. The buffer's content must not change while the snapshot is in use.
+     *
+     * @param buffer the encoded snapshot, from its position to its limit.
+     * @return the snapshot.
+     * @throws IOException if the buffer does not hold a valid snapshot.
+     */
+    public static GameSnapshot fromByteBuffer(ByteBuffer buffer) throws IOException {
+        GameSnapshot snapshot = new GameSnapshot(buffer.slice());
+        ByteBuffer in = snapshot.data.duplicate();
+        if (in.remaining() < HEADER_BYTES || in.getInt() != MAGIC) {
+            throw new IOException("Not a game snapshot");
+        }
+        byte version = in.get();
+        if (version != VERSION) {
+            throw new IOException("Unsupported snapshot version " + version);
+        }
+        long expected = HEADER_BYTES + (long) OBJECT_BYTES * snapshot.getObjectCount();
+        if (snapshot.getObjectCount() >= 0 && expected < in.limit()) {
+            in.position((int) expected);
+            for (int i = 0; i < SpawnCategory.values().length && in.hasRemaining(); i++) {
+                expected += 1 + 8L * (in.get() & 0xFF);
+                in.position((int) Math.min(expected, in.limit()));
+            }
+        }
+        if (snapshot.getObjectCount() < 0 || in.limit() != expected) {
+            throw new IOException("Snapshot is " + in.limit() + " bytes, expected "
+                    + expected);
+        }
+        return snapshot;
+    }
+
+    private static int randomBytes(long[][] states) {
+        int bytes = 0;
+        for (long[] state : states) {
+            bytes += 1 + 8 * state.length;
+        }
+        return bytes;
+    }
+
+    /**
+     * Returns a read-only buffer holding this snapshot's binary layout.
+     *
+     * @return the encoded snapshot, positioned at its start.
+     */
+    public ByteBuffer toByteBuffer() {
+        return data.duplicate();
+    }
+
+    /**
+     * Writes this snapshot to a file through a FileChannel, replacing any existing file.
+     *
+     * @param path the file to write.
+     * @throws IOException if the file cannot be written.
+     */
+    public void save(Path path) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE,
+                StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            ByteBuffer out = data.duplicate();
+            while (out.hasRemaining()) {
+                channel.write(out);
+            }
+        }
+    }
+
+    /**
+     * Loads a snapshot by memory-mapping the given file. The file's bytes are only
+     * read from disk as restore() reaches them.
+     *
+     * @param path the file to load.
+     * @return the snapshot.
+     * @throws IOException if the file cannot be read or is not a valid snapshot.
+     */
+    public static GameSnapshot load(Path path) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            // The mapping stays valid after the channel is closed.
+            return fromByteBuffer(channel.map(FileChannel.MapMode.READ_ONLY, 0,
+                    channel.size()));
+        }
+    }
+
+    /**
+     * Replaces the state of the given model with this snapshot. The model keeps its
+     * logger and event listeners.
+     *
+     * @param model the model to restore into.
+     * @throws IllegalArgumentException if the model's board size differs from the
+     *                                  snapshot's, its spawn categories use a different
+     *                                  kind of random source, or the snapshot data is
+     *                                  corrupt.
+     */
+    public void restore(GameModel model) {
+        GameConfig config = model.getConfig();
+        if (config.getWidth() != getWidth() || config.getHeight() != getHeight()) {
+            throw new IllegalArgumentException("Snapshot of a " + getWidth() + "x"
+                    + getHeight() + " board cannot be restored into a " + config.getWidth()
+                    + "x" + config.getHeight() + " board");
+        }
+        ByteBuffer in = data.duplicate();
+        in.position(4 + 1 + 4 + 4);
+        try {
+            int tick = in.getInt();
+            int level = in.getInt();
+            int spawnRate = in.getInt();
+            int modeIndex = in.get();
+            if (modeIndex < 0 || modeIndex >= CollisionMode.values().length) {
+                throw new IllegalArgumentException("Unknown collision mode " + modeIndex);
+            }
+            Ship ship = new Ship(in.getInt(), in.getInt(), in.getInt(),
+                    config.getWidth(), config.getHeight());
+            ship.addScore(in.getInt());
+            int count = in.getInt();
+            List<SpaceObject> objects = new ArrayList<>(count);
+            Motion[] motions = new Motion[count];
+            for (int i = 0; i < count; i++) {
+                objects.add(EntityType.create(in.get(), in.getInt(), in.getInt()));
+                motions[i] = Motion.velocity(in.getInt(), in.getInt());
+            }
+            long[][] randomStates = new long[SpawnCategory.values().length][];
+            for (int i = 0; i < randomStates.length; i++) {
+                randomStates[i] = new long[in.get() & 0xFF];
+                for (int j = 0; j < randomStates[i].length; j++) {
+                    randomStates[i][j] = in.getLong();
+                }
+            }
+            model.restoreState(tick, level, spawnRate, randomStates,
+                    CollisionMode.values()[modeIndex], ship, objects, motions);
+        } catch (BufferUnderflowException e) {
+            throw new IllegalArgumentException("Snapshot data is truncated", e);
+        }
+    }
+
+    /**
+     * Returns the board width of the captured model.
+     *
+     * @return the board width.
+     */
+    public int getWidth() {
+        return data.getInt(5);
+    }
+
+    /**
+     * Returns the board height of the captured model.
+     *
+     * @return the board height.
+     */
+    public int getHeight() {
+        return data.getInt(9);
+    }
+
+    /**
+     * Returns the tick most recently passed to updateGame() before the capture.
+     * Continue the restored game from the tick after it.
+     *
+     * @return the captured tick.
+     */
+    public int getTick() {
+        return data.getInt(13);
+    }
+
+    /**
+     * Returns the number of objects in the snapshot, not counting the ship.
+     *
+     * @return the object count.
+     */
+    public int getObjectCount() {
+        return data.getInt(HEADER_BYTES - 4);
+    }
+
+    /**
+     * Returns the size of the snapshot's binary layout.
+     *
+     * @return the size in bytes.
+     */
+    public int getSizeInBytes() {
+        return data.limit();
+    }
+
+    @Override
+    public String toString() {
+        return "GameSnapshot[tick " + getTick() + ", " + getWidth() + "x" + getHeight()
+                + ", " + getObjectCount() + " objects, " + getSizeInBytes() + " bytes]";
+    }
+}
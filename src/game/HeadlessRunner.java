@@ -0,0 +1,339 @@
+package game;
+
+import game.core.Asteroid;
+import game.core.Bullet;
+import game.core.Enemy;
+import game.core.PowerUp;
+import game.core.SpaceObject;
+import game.core.Ship;
+import game.exceptions.BoundaryExceededException;
+import game.replay.ReplayRecorder;
+import game.utility.Direction;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Runs a GameModel without a UI or a real clock, as fast as the CPU allows.
+ * Each iteration reads at most one player input, applies it the same way
+ * GameController.handlePlayerInput does, and advances the model with updateGame(tick).
+ * Useful for balancing sweeps and regression checks over many simulated sessions.
+ *
+ * Can be used as a library, or from the command line:
+ * java game.HeadlessRunner [ticks] [seed]
+ */
+public class HeadlessRunner {
+    private final GameModel model;
+    private final InputSource inputs;
+    private boolean paused;
+    private ReplayRecorder recorder;
+
+    /**
+     * Supplies the player input for each iteration of a headless run.
+     */
+    @FunctionalInterface
+    public interface InputSource {
+        /**
+         * Returns the input pressed before the given iteration. Iterations run while
+         * the game is paused are numbered too, so a script can resume the game.
+         *
+         * @param tick the iteration about to run, starting at 1.
+         * @return one of "W", "A", "S", "D", "F" or "P" (any case), or null for no input.
+         */
+        String inputFor(int tick);
+    }
+
+    /**
+     * Creates a runner for the given model and input source.
+     *
+     * @param model the model to advance.
+     * @param inputs the player inputs to apply, or null for none.
+     */
+    public HeadlessRunner(GameModel model, InputSource inputs) {
+        this.model = model;
+        this.inputs = inputs == null ? tick -> null : inputs;
+    }
+
+    /**
+     * Records the inputs and ticks of subsequent runs. The recorder should use
+     * Replay.StepMode.UPDATE_ONLY and the seed the model was given.
+     *
+     * @param recorder the recorder to report to, or null to stop recording.
+     */
+    public void setRecorder(ReplayRecorder recorder) {
+        this.recorder = recorder;
+    }
+
+    /**
+     * Returns an input source which presses a random key with the given probability
+     * each iteration. The same seed always produces the same inputs.
+     * Never pauses the game.
+     *
+     * @param seed the seed for the input sequence.
+     * @param chance the probability of an input on any iteration, between 0 and 1.
+     * @return the input source.
+     */
+    public static InputSource randomInputs(long seed, double chance) {
+        Random random = new Random(seed);
+        String[] keys = {"W", "A", "S", "D", "F"};
+        return tick -> random.nextDouble() < chance ? keys[random.nextInt(keys.length)] : null;
+    }
+
+    /**
+     * Returns an input source which replays a script, one character per iteration
+     * starting at iteration 1. Any character other than W, A, S, D, F or P means no input.
+     *
+     * @param script the inputs to replay.
+     * @return the input source.
+     */
+    public static InputSource scriptedInputs(String script) {
+        return tick -> tick >= 1 && tick <= script.length()
+                ? String.valueOf(script.charAt(tick - 1)) : null;
+    }
+
+    /**
+     * Applies a single player input to the model without logging the ship's movement.
+     * Moves that would leave the board are ignored.
+     *
+     * @param model the model to update.
+     * @param input the player input, any case.
+     * @return true if the input was "P", i.e. the pause state should be toggled.
+     */
+    public static boolean applyInput(GameModel model, String input) {
+        if (input == null || input.isEmpty()) {
+            return false;
+        }
+        Direction direction = null;
+        switch (input.toUpperCase()) {
+            case "W":
+                direction = Direction.UP;
+                break;
+            case "A":
+                direction = Direction.LEFT;
+                break;
+            case "S":
+                direction = Direction.DOWN;
+                break;
+            case "D":
+                direction = Direction.RIGHT;
+                break;
+            case "F":
+                model.fireBullet();
+                return false;
+            case "P":
+                return true;
+            default:
+                return false;
+        }
+        try {
+            model.getShip().move(direction);
+        } catch (BoundaryExceededException e) {
+            // Same as the UI: the ship simply stays where it is.
+        }
+        return false;
+    }
+
+    /**
+     * Runs until the model has advanced maxTicks ticks, stopping early if the ship is
+     * destroyed. While paused (after an odd number of "P" inputs), inputs are still
+     * read but the model is not advanced, and those iterations are not counted as
+     * ticks. The run also stops if the game stays paused for maxTicks iterations in a
+     * row, as the input source may never resume it.
+     *
+     * @param maxTicks the number of ticks to run.
+     * @return statistics for the run and the model's end state.
+     */
+    public Result run(int maxTicks) {
+        long start = System.nanoTime();
+        int tick = 0;
+        int iteration = 0;
+        int pausedIterations = 0;
+        while (tick < maxTicks && pausedIterations < maxTicks
+                && model.getShip().getHealth() > 0) {
+            iteration++;
+            String input = inputs.inputFor(iteration);
+            if (recorder != null) {
+                recorder.begin(model);
+                if (input != null) {
+                    recorder.onInput(input);
+                }
+            }
+            if (applyInput(model, input)) {
+                paused = !paused;
+            }
+            if (paused) {
+                pausedIterations++;
+            } else {
+                pausedIterations = 0;
+                model.updateGame(++tick);
+                if (recorder != null) {
+                    recorder.onTick(tick, model);
+                }
+            }
+        }
+        return new Result(model, tick, System.nanoTime() - start);
+    }
+
+    /**
+     * Runs a single headless session with random inputs and prints its statistics.
+     *
+     * @param args optional tick count (default 100000) and seed (default 0).
+     */
+    public static void main(String[] args) {
+        int ticks = args.length > 0 ? Integer.parseInt(args[0]) : 100000;
+        int seed = args.length > 1 ? Integer.parseInt(args[1]) : 0;
+        GameModel model = new GameModel(message -> { });
+        model.setRandomSeed(seed);
+        Result result = new HeadlessRunner(model, randomInputs(seed, 0.2)).run(ticks);
+        System.out.println(result);
+    }
+
+    /**
+     * The outcome of a headless run: throughput and the model's end state.
+     */
+    public static class Result {
+        private final int ticks;
+        private final long nanos;
+        private final int score;
+        private final int level;
+        private final int health;
+        private final int asteroids;
+        private final int enemies;
+        private final int bullets;
+        private final int powerUps;
+
+        /**
+         * Captures the end state of the given model.
+         *
+         * @param model the model after the run.
+         * @param ticks the number of ticks the model advanced.
+         * @param nanos the wall-clock time the run took, in nanoseconds.
+         */
+        public Result(GameModel model, int ticks, long nanos) {
+            Ship ship = model.getShip();
+            this.ticks = ticks;
+            this.nanos = nanos;
+            this.score = ship.getScore();
+            this.level = model.getLevel();
+            this.health = ship.getHealth();
+            int asteroids = 0;
+            int enemies = 0;
+            int bullets = 0;
+            int powerUps = 0;
+            List<SpaceObject> objects = model.getSpaceObjects();
+            for (int i = 0; i < objects.size(); i++) {
+                SpaceObject obj = objects.get(i);
+                if (obj instanceof Asteroid) {
+                    asteroids++;
+                } else if (obj instanceof Enemy) {
+                    enemies++;
+                } else if (obj instanceof Bullet) {
+                    bullets++;
+                } else if (obj instanceof PowerUp) {
+                    powerUps++;
+                }
+            }
+            this.asteroids = asteroids;
+            this.enemies = enemies;
+            this.bullets = bullets;
+            this.powerUps = powerUps;
+        }
+
+        /**
+         * Returns the number of ticks the model advanced, not counting paused iterations.
+         *
+         * @return the tick count.
+         */
+        public int getTicks() {
+            return ticks;
+        }
+
+        /**
+         * Returns the wall-clock time the run took.
+         *
+         * @return the duration in nanoseconds.
+         */
+        public long getNanos() {
+            return nanos;
+        }
+
+        /**
+         * Returns the simulation throughput.
+         *
+         * @return ticks advanced per second of wall-clock time.
+         */
+        public double getTicksPerSecond() {
+            return nanos == 0 ? 0 : ticks * 1e9 / nanos;
+        }
+
+        /**
+         * Returns the ship's final score.
+         *
+         * @return the score.
+         */
+        public int getScore() {
+            return score;
+        }
+
+        /**
+         * Returns the final level.
+         *
+         * @return the level.
+         */
+        public int getLevel() {
+            return level;
+        }
+
+        /**
+         * Returns the ship's final health.
+         *
+         * @return the health.
+         */
+        public int getHealth() {
+            return health;
+        }
+
+        /**
+         * Returns the number of asteroids left on the board.
+         *
+         * @return the asteroid count.
+         */
+        public int getAsteroids() {
+            return asteroids;
+        }
+
+        /**
+         * Returns the number of enemies left on the board.
+         *
+         * @return the enemy count.
+         */
+        public int getEnemies() {
+            return enemies;
+        }
+
+        /**
+         * Returns the number of bullets still tracked.
+         *
+         * @return the bullet count.
+         */
+        public int getBullets() {
+            return bullets;
+        }
+
+        /**
+         * Returns the number of power-ups left on the board.
+         *
+         * @return the power-up count.
+         */
+        public int getPowerUps() {
+            return powerUps;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("%d ticks in %.1f ms (%.0f ticks/s): score %d, level %d,"
+                    + " health %d, asteroids %d, enemies %d, bullets %d, power-ups %d",
+                    ticks, nanos / 1e6, getTicksPerSecond(), score, level, health,
+                    asteroids, enemies, bullets, powerUps);
+        }
+    }
+}
@@ -0,0 +1,182 @@
+package game;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.Consumer;
+
+/**
+ * A lock-free queue of player inputs between any number of input threads and the one
+ * thread that runs the simulation.
+ *
+ * Input threads call offer(), which only claims a slot in a ring buffer, so a key press
+ * never waits for a tick. The simulation thread calls drain() at a fixed point in each
+ * tick and applies the inputs there, so the model is only ever changed by one thread.
+ *
+ * drain() also coalesces bursts: moves and fires beyond the per-tick limits are
+ * discarded (and counted) rather than all applied in the same tick. Other inputs,
+ * including "P", are always passed on.
+ */
+public class InputQueue {
+    /** The default number of inputs that can wait between two drains. */
+    public static final int DEFAULT_CAPACITY = 256;
+    /** A per-tick limit which never discards anything. */
+    public static final int UNLIMITED = Integer.MAX_VALUE;
+
+    private final int mask;
+    // Slot i is free for the producer claiming position p when sequences[i] == p,
+    // and holds an input for the consumer at position p when it is p + 1.
+    private final AtomicLongArray sequences;
+    private final String[] inputs;
+    private final AtomicLong tail = new AtomicLong();
+    private final AtomicLong dropped = new AtomicLong();
+    private final int maxMovesPerTick;
+    private final int maxFiresPerTick;
+    private volatile long head;
+    private volatile long coalesced;
+
+    /**
+     * Creates a queue with the default capacity that passes every input on.
+     */
+    public InputQueue() {
+        this(DEFAULT_CAPACITY, UNLIMITED, UNLIMITED);
+    }
+
+    /**
+     * Creates a queue.
+     *
+     * @param capacity the number of inputs that can wait between two drains, rounded
+     *                 up to a power of two.
+     * @param maxMovesPerTick the most "W", "A", "S" and "D" inputs applied per drain.
+     * @param maxFiresPerTick the most "F" inputs applied per drain.
+     */
+    public InputQueue(int capacity, int maxMovesPerTick, int maxFiresPerTick) {
+        int size = Integer.highestOneBit(Math.max(2, capacity - 1)) << 1;
+        this.mask = size - 1;
+        this.sequences = new AtomicLongArray(size);
+        for (int i = 0; i < size; i++) {
+            sequences.set(i, i);
+        }
+        this.inputs = new String[size];
+        this.maxMovesPerTick = Math.max(0, maxMovesPerTick);
+        this.maxFiresPerTick = Math.max(0, maxFiresPerTick);
+    }
+
+    /**
+     * Queues an input. Safe to call from any thread.
+     *
+     * @param input the player's input; null and empty inputs are ignored.
+     * @return false if the queue was full and the input was dropped.
+     */
+    public boolean offer(String input) {
+        if (input == null || input.isEmpty()) {
+            return true;
+        }
+        long position = tail.get();
+        while (true) {
+            int slot = (int) position & mask;
+            long available = sequences.get(slot) - position;
+            if (available == 0) {
+                if (tail.compareAndSet(position, position + 1)) {
+                    break;
+                }
+            } else if (available < 0) {
+                // The slot still holds an input from the previous lap: the queue is full.
+                dropped.incrementAndGet();
+                return false;
+            }
+            position = tail.get();
+        }
+        int slot = (int) position & mask;
+        inputs[slot] = input;
+        sequences.set(slot, position + 1);
+        return true;
+    }
+
+    /**
+     * Passes the inputs queued before this call to the handler, in order, applying the
+     * per-tick limits. Inputs offered while draining wait for the next drain.
+     * Must only be called from the simulation thread.
+     *
+     * @param handler applies one input, e.g. GameController::handlePlayerInput.
+     * @return the number of inputs passed to the handler.
+     */
+    public int drain(Consumer<String> handler) {
+        long end = tail.get();
+        long position = head;
+        int moves = 0;
+        int fires = 0;
+        int handled = 0;
+        while (position < end) {
+            int slot = (int) position & mask;
+            if (sequences.get(slot) != position + 1) {
+                break; // Claimed but not yet written; it will be drained next time.
+            }
+            String input = inputs[slot];
+            inputs[slot] = null;
+            sequences.set(slot, position + mask + 1);
+            position++;
+            head = position;
+            boolean accept;
+            if (isMove(input)) {
+                accept = moves++ < maxMovesPerTick;
+            } else if (isFire(input)) {
+                accept = fires++ < maxFiresPerTick;
+            } else {
+                accept = true;
+            }
+            if (accept) {
+                handled++;
+                handler.accept(input);
+            } else {
+                coalesced++;
+            }
+        }
+        return handled;
+    }
+
+    /**
+     * Returns the number of inputs waiting to be drained.
+     *
+     * @return the pending input count.
+     */
+    public long getPendingCount() {
+        return Math.max(0, tail.get() - head);
+    }
+
+    /**
+     * Returns the number of inputs dropped because the queue was full.
+     *
+     * @return the dropped input count.
+     */
+    public long getDroppedCount() {
+        return dropped.get();
+    }
+
+    /**
+     * Returns the number of inputs discarded by the per-tick limits.
+     *
+     * @return the coalesced input count.
+     */
+    public long getCoalescedCount() {
+        return coalesced;
+    }
+
+    private static boolean isMove(String input) {
+        if (input.length() != 1) {
+            return false;
+        }
+        switch (Character.toUpperCase(input.charAt(0))) {
+            case 'W':
+            case 'A':
+            case 'S':
+            case 'D':
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    private static boolean isFire(String input) {
+        return input.equalsIgnoreCase("F");
+    }
+}
@@ -0,0 +1,146 @@
+package game;
+
+import game.core.SpaceObject;
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+
+/**
+ * Splits the index range of a GameModel's object list into contiguous chunks and runs
+ * a task on every chunk at once in a ForkJoinPool.
+ *
+ * Tasks only read shared state and write to their own indices; anything they find
+ * goes into the chunk's own Hits buffer. The model then merges the buffers in chunk
+ * order, which is list order, so removals and events come out exactly as a single
+ * sequential scan would produce them.
+ */
+final class ParallelTick {
+    // Below this many objects per chunk the fork/join overhead outweighs the work.
+    private static final int MIN_CHUNK = 4096;
+
+    /**
+     * Work on the objects at one range of indices.
+     */
+    @FunctionalInterface
+    interface ChunkTask {
+        /**
+         * Processes the objects at indices from (inclusive) to to (exclusive).
+         *
+         * @param from the first index.
+         * @param to the index after the last.
+         * @param out where to record findings, in index order.
+         */
+        void run(int from, int to, Hits out);
+    }
+
+    /**
+     * The objects a chunk found, with their list indices, in the order found.
+     */
+    static final class Hits {
+        private int[] indices = new int[16];
+        private SpaceObject[] objects = new SpaceObject[16];
+        private int size;
+
+        /**
+         * Records an object found at the given index.
+         *
+         * @param index the object's index.
+         * @param object the object, or another object it hit.
+         */
+        void add(int index, SpaceObject object) {
+            if (size == indices.length) {
+                indices = Arrays.copyOf(indices, size * 2);
+                objects = Arrays.copyOf(objects, size * 2);
+            }
+            indices[size] = index;
+            objects[size++] = object;
+        }
+
+        int size() {
+            return size;
+        }
+
+        int index(int i) {
+            return indices[i];
+        }
+
+        SpaceObject object(int i) {
+            return objects[i];
+        }
+
+        private void clear() {
+            Arrays.fill(objects, 0, size, null);
+            size = 0;
+        }
+    }
+
+    private final ForkJoinPool pool;
+    private final int threshold;
+    private Hits[] buffers = new Hits[0];
+
+    /**
+     * Creates a splitter which runs in the given pool.
+     *
+     * @param pool the pool to run chunks in.
+     * @param threshold the fewest objects worth splitting.
+     */
+    ParallelTick(ForkJoinPool pool, int threshold) {
+        this.pool = pool;
+        this.threshold = Math.max(0, threshold);
+    }
+
+    /**
+     * Returns whether a list of the given size should be split.
+     *
+     * @param count the number of objects.
+     * @return true if count reaches the threshold.
+     */
+    boolean appliesTo(int count) {
+        return count >= threshold;
+    }
+
+    /**
+     * Runs the task over the indices 0 to count in chunks and waits for all of them.
+     * Afterwards hits(c) holds what chunk c recorded, for c below the return value.
+     * An exception thrown by any chunk is rethrown here.
+     *
+     * @param count the number of objects.
+     * @param task the work for each chunk.
+     * @return the number of chunks.
+     */
+    int run(int count, ChunkTask task) {
+        int chunks = Math.max(1, Math.min(pool.getParallelism() * 4, count / MIN_CHUNK));
+        if (buffers.length < chunks) {
+            int old = buffers.length;
+            buffers = Arrays.copyOf(buffers, chunks);
+            for (int c = old; c < chunks; c++) {
+                buffers[c] = new Hits();
+            }
+        }
+        if (chunks == 1) {
+            buffers[0].clear();
+            task.run(0, count, buffers[0]);
+            return chunks;
+        }
+        ForkJoinTask<?>[] tasks = new ForkJoinTask<?>[chunks];
+        for (int c = 0; c < chunks; c++) {
+            int from = (int) ((long) count * c / chunks);
+            int to = (int) ((long) count * (c + 1) / chunks);
+            Hits out = buffers[c];
+            out.clear();
+            tasks[c] = ForkJoinTask.adapt(() -> task.run(from, to, out));
+        }
+        pool.invoke(ForkJoinTask.adapt(() -> ForkJoinTask.invokeAll(tasks)));
+        return chunks;
+    }
+
+    /**
+     * Returns what a chunk of the latest run() recorded.
+     *
+     * @param chunk the chunk number.
+     * @return its findings.
+     */
+    Hits hits(int chunk) {
+        return buffers[chunk];
+    }
+}
@@ -0,0 +1,235 @@
+package game;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Supplier;
+import java.util.function.ToIntFunction;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/**
+ * Runs many independent, seeded headless sessions in parallel on a ForkJoinPool.
+ * Every session gets its own GameModel, so sessions share no state and throughput
+ * scales with the number of cores.
+ * Session i of a batch uses seed (baseSeed + i) for both the model's spawns and the
+ * random player inputs, so a batch gives the same results however it is scheduled.
+ *
+ * Example: pool.run(GameConfig.DEFAULT.withSpawnRateIncrease(10), 1000, 5000, 0)
+ */
+public class SessionPool implements AutoCloseable {
+    /** The probability of a random player input on any tick. */
+    public static final double INPUT_CHANCE = 0.2;
+
+    private final ForkJoinPool pool;
+
+    /**
+     * Creates a pool using one worker per available core.
+     */
+    public SessionPool() {
+        this(Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * Creates a pool with the given number of workers.
+     *
+     * @param parallelism the number of sessions to run at once.
+     */
+    public SessionPool(int parallelism) {
+        this.pool = new ForkJoinPool(Math.max(1, parallelism));
+    }
+
+    /**
+     * Runs a batch of sessions for one configuration and summarises them.
+     *
+     * @param label a name for the configuration, used in the summary.
+     * @param models creates a fresh model for each session; called from worker threads.
+     * @param sessions the number of sessions to run.
+     * @param ticks the maximum number of ticks per session.
+     * @param baseSeed the seed of the first session.
+     * @return the aggregated statistics.
+     * @throws IllegalStateException if a session failed or the run was interrupted.
+     */
+    public Summary run(String label, Supplier<GameModel> models, int sessions, int ticks,
+                       int baseSeed) {
+        long start = System.nanoTime();
+        List<HeadlessRunner.Result> results;
+        try {
+            results = pool.submit(() -> IntStream.range(0, sessions).parallel()
+                    .mapToObj(i -> runSession(models.get(), ticks, baseSeed + i))
+                    .collect(Collectors.toList())).get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while running " + label, e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Session failed in " + label, e.getCause());
+        }
+        return new Summary(label, results, System.nanoTime() - start);
+    }
+
+    /**
+     * Runs a batch of sessions of models built with the given configuration.
+     * Log output from the models is discarded.
+     *
+     * @param config the configuration to simulate.
+     * @param sessions the number of sessions to run.
+     * @param ticks the maximum number of ticks per session.
+     * @param baseSeed the seed of the first session.
+     * @return the aggregated statistics, labelled with the configuration.
+     */
+    public Summary run(GameConfig config, int sessions, int ticks, int baseSeed) {
+        return run(config.toString(), () -> new GameModel(message -> { }, config),
+                sessions, ticks, baseSeed);
+    }
+
+    private static HeadlessRunner.Result runSession(GameModel model, int ticks, int seed) {
+        model.setRandomSeed(seed);
+        return new HeadlessRunner(model, HeadlessRunner.randomInputs(seed, INPUT_CHANCE))
+                .run(ticks);
+    }
+
+    /**
+     * Shuts the worker threads down.
+     */
+    @Override
+    public void close() {
+        pool.shutdown();
+    }
+
+    /**
+     * Statistics over a batch of sessions run with one configuration.
+     */
+    public static class Summary {
+        private final String label;
+        private final List<HeadlessRunner.Result> results;
+        private final long nanos;
+
+        /**
+         * Creates a summary of the given session results.
+         *
+         * @param label the configuration name.
+         * @param results the result of every session, in seed order.
+         * @param nanos the wall-clock time the whole batch took, in nanoseconds.
+         */
+        public Summary(String label, List<HeadlessRunner.Result> results, long nanos) {
+            this.label = label;
+            this.results = Collections.unmodifiableList(new ArrayList<>(results));
+            this.nanos = nanos;
+        }
+
+        /**
+         * Returns the configuration name.
+         *
+         * @return the label.
+         */
+        public String getLabel() {
+            return label;
+        }
+
+        /**
+         * Returns the result of every session, in seed order.
+         *
+         * @return an unmodifiable list of results.
+         */
+        public List<HeadlessRunner.Result> getResults() {
+            return results;
+        }
+
+        /**
+         * Returns the total number of ticks simulated across every session.
+         *
+         * @return the tick count.
+         */
+        public long getTotalTicks() {
+            long total = 0;
+            for (HeadlessRunner.Result result : results) {
+                total += result.getTicks();
+            }
+            return total;
+        }
+
+        /**
+         * Returns the combined throughput of the batch.
+         *
+         * @return ticks per second of wall-clock time across all workers.
+         */
+        public double getTicksPerSecond() {
+            return nanos == 0 ? 0 : getTotalTicks() * 1e9 / nanos;
+        }
+
+        /**
+         * Returns the mean number of ticks a session lasted.
+         *
+         * @return the mean session length.
+         */
+        public double getMeanTicks() {
+            return mean(HeadlessRunner.Result::getTicks);
+        }
+
+        /**
+         * Returns the mean final score.
+         *
+         * @return the mean score.
+         */
+        public double getMeanScore() {
+            return mean(HeadlessRunner.Result::getScore);
+        }
+
+        /**
+         * Returns the mean final level.
+         *
+         * @return the mean level.
+         */
+        public double getMeanLevel() {
+            return mean(HeadlessRunner.Result::getLevel);
+        }
+
+        /**
+         * Returns the mean final health.
+         *
+         * @return the mean health.
+         */
+        public double getMeanHealth() {
+            return mean(HeadlessRunner.Result::getHealth);
+        }
+
+        /**
+         * Returns the fraction of sessions in which the ship survived.
+         *
+         * @return a value between 0 and 1.
+         */
+        public double getSurvivalRate() {
+            if (results.isEmpty()) {
+                return 0;
+            }
+            int survived = 0;
+            for (HeadlessRunner.Result result : results) {
+                if (result.getHealth() > 0) {
+                    survived++;
+                }
+            }
+            return (double) survived / results.size();
+        }
+
+        private double mean(ToIntFunction<HeadlessRunner.Result> metric) {
+            if (results.isEmpty()) {
+                return 0;
+            }
+            double total = 0;
+            for (HeadlessRunner.Result result : results) {
+                total += metric.applyAsInt(result);
+            }
+            return total / results.size();
+        }
+
+        @Override
+        public String toString() {
+            return String.format("%s: %d sessions, %.0f ticks/s, mean ticks %.1f, score %.1f,"
+                    + " level %.2f, health %.1f, survival %.0f%%",
+                    label, results.size(), getTicksPerSecond(), getMeanTicks(),
+                    getMeanScore(), getMeanLevel(), getMeanHealth(), getSurvivalRate() * 100);
+        }
+    }
+}
@@ -0,0 +1,14 @@
+package game;
+
+/**
+ * The kinds of object GameModel.spawnObjects() can spawn. Each category can draw from
+ * its own random stream, see GameModel.setRandomStreams().
+ */
+public enum SpawnCategory {
+    /** Asteroids. */
+    ASTEROID,
+    /** Enemies. */
+    ENEMY,
+    /** Health and shield power-ups. */
+    POWER_UP
+}
@@ -0,0 +1,203 @@
+package game;
+
+import game.core.EntityType;
+import game.utility.RandomSource;
+import java.util.Arrays;
+import java.util.function.Function;
+
+/**
+ * A precomputed list of spawns: for each entry, the tick it spawns on, its column and
+ * its EntityType tag, held in parallel primitive arrays sorted by tick.
+ * GameModel plays a schedule back with a cursor, so spawning costs only the entries
+ * that come due, however dense the schedule is.
+ *
+ * Schedules are either generated for a stretch of ticks from a spawn rate, see
+ * generate(), or written by hand with of(), e.g. for a scripted boss wave.
+ * They are immutable.
+ */
+public final class SpawnSchedule {
+    private final int[] ticks;
+    private final int[] xs;
+    private final byte[] types;
+    private final int endTick;
+
+    private SpawnSchedule(int[] ticks, int[] xs, byte[] types, int endTick) {
+        this.ticks = ticks;
+        this.xs = xs;
+        this.types = types;
+        this.endTick = endTick;
+    }
+
+    /**
+     * Generates the spawns for the given ticks in one pass.
+     * Each tick, each spawn category spawns rate / 100 objects, plus one more with a
+     * chance of the remaining percentage, drawn with nextInt(100) exactly as
+     * GameModel.spawnObjects() does. Below 100% this is the same distribution as
+     * rolling every tick; above it, levels keep getting denser instead of capping at
+     * one object per category per tick. Every object's column is drawn with
+     * nextInt(width), and a power-up is a ShieldPowerUp if nextBoolean() is true.
+     *
+     * @param config the configuration giving the board width and spawn ratios.
+     * @param spawnRate the asteroid spawn rate, as a percentage per tick.
+     * @param firstTick the first tick to generate spawns for.
+     * @param length the number of ticks to generate.
+     * @param streams the random source for each category,
+     *                e.g. GameModel::getRandomSource.
+     * @return the schedule, ending at firstTick + length.
+     * @throws IllegalArgumentException if length or spawnRate is negative.
+     */
+    public static SpawnSchedule generate(GameConfig config, int spawnRate, int firstTick,
+                                         int length,
+                                         Function<SpawnCategory, RandomSource> streams) {
+        if (length < 0 || spawnRate < 0) {
+            throw new IllegalArgumentException("Cannot generate " + length
+                    + " ticks at a spawn rate of " + spawnRate + "%");
+        }
+        double[] rates = {
+            spawnRate,
+            spawnRate * config.getEnemySpawnRate(),
+            spawnRate * config.getPowerUpSpawnRate()
+        };
+        RandomSource[] sources = new RandomSource[rates.length];
+        int capacity = 0;
+        for (SpawnCategory category : SpawnCategory.values()) {
+            sources[category.ordinal()] = streams.apply(category);
+            capacity += (int) Math.ceil(rates[category.ordinal()] / 100);
+        }
+        capacity = (int) Math.min(Integer.MAX_VALUE - 8, (long) capacity * length);
+        int[] ticks = new int[capacity];
+        int[] xs = new int[capacity];
+        byte[] types = new byte[capacity];
+        int size = 0;
+        int width = config.getWidth();
+        for (int tick = firstTick; tick < firstTick + length; tick++) {
+            for (int c = 0; c < rates.length; c++) {
+                RandomSource random = sources[c];
+                int count = (int) (rates[c] / 100);
+                if (random.nextInt(100) < rates[c] - 100 * count) {
+                    count++;
+                }
+                for (int i = 0; i < count; i++) {
+                    ticks[size] = tick;
+                    xs[size] = random.nextInt(width);
+                    types[size] = typeOf(c, random);
+                    size++;
+                }
+            }
+        }
+        return new SpawnSchedule(Arrays.copyOf(ticks, size), Arrays.copyOf(xs, size),
+                Arrays.copyOf(types, size), firstTick + length);
+    }
+
+    private static byte typeOf(int category, RandomSource random) {
+        if (category == SpawnCategory.ASTEROID.ordinal()) {
+            return EntityType.ASTEROID;
+        } else if (category == SpawnCategory.ENEMY.ordinal()) {
+            return EntityType.ENEMY;
+        }
+        return random.nextBoolean() ? EntityType.SHIELD_POWER_UP
+                : EntityType.HEALTH_POWER_UP;
+    }
+
+    /**
+     * Creates a schedule from explicit entries. The arrays are copied.
+     *
+     * @param ticks the tick of each entry, in ascending order.
+     * @param xs the column of each entry.
+     * @param types the EntityType tag of each entry.
+     * @return the schedule, ending after its last entry's tick.
+     * @throws IllegalArgumentException if the arrays differ in length, the ticks are
+     *                                  not in ascending order, or a type tag is not an
+     *                                  asteroid, enemy, bullet or power-up.
+     */
+    public static SpawnSchedule of(int[] ticks, int[] xs, byte[] types) {
+        if (ticks.length != xs.length || ticks.length != types.length) {
+            throw new IllegalArgumentException("Expected arrays of equal length, got "
+                    + ticks.length + ", " + xs.length + " and " + types.length);
+        }
+        for (int i = 0; i < ticks.length; i++) {
+            if (i > 0 && ticks[i] < ticks[i - 1]) {
+                throw new IllegalArgumentException("Tick " + ticks[i] + " at index " + i
+                        + " comes before tick " + ticks[i - 1]);
+            }
+            if (types[i] < EntityType.ASTEROID || types[i] > EntityType.SHIELD_POWER_UP) {
+                throw new IllegalArgumentException("Unknown type tag " + types[i]);
+            }
+        }
+        int end = ticks.length == 0 ? Integer.MIN_VALUE : ticks[ticks.length - 1] + 1;
+        return new SpawnSchedule(ticks.clone(), xs.clone(), types.clone(), end);
+    }
+
+    /**
+     * Returns the number of entries.
+     *
+     * @return the entry count.
+     */
+    public int size() {
+        return ticks.length;
+    }
+
+    /**
+     * Returns the tick an entry spawns on.
+     *
+     * @param index the entry index.
+     * @return the entry's tick.
+     */
+    public int getTick(int index) {
+        return ticks[index];
+    }
+
+    /**
+     * Returns the column an entry spawns in.
+     *
+     * @param index the entry index.
+     * @return the entry's x-coordinate.
+     */
+    public int getX(int index) {
+        return xs[index];
+    }
+
+    /**
+     * Returns the EntityType tag of an entry.
+     *
+     * @param index the entry index.
+     * @return the entry's type tag.
+     */
+    public byte getType(int index) {
+        return types[index];
+    }
+
+    /**
+     * Returns the first tick after the ticks this schedule covers.
+     *
+     * @return the end tick, exclusive.
+     */
+    public int getEndTick() {
+        return endTick;
+    }
+
+    /**
+     * Returns the index of the first entry at or after the given tick.
+     *
+     * @param tick the tick to look for.
+     * @return the entry index, or size() if every entry is earlier.
+     */
+    public int indexOf(int tick) {
+        int low = 0;
+        int high = ticks.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (ticks[mid] < tick) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    @Override
+    public String toString() {
+        return "SpawnSchedule[" + ticks.length + " spawns, ending at tick " + endTick + "]";
+    }
+}
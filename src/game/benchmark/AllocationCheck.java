@@ -0,0 +1,138 @@
+package game.benchmark;
+
+import game.CollisionMode;
+import game.GameConfig;
+import game.GameModel;
+import game.core.Bullet;
+import game.core.HealthPowerUp;
+import java.io.PrintStream;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+
+/**
+ * Checks that a steady-state tick allocates nothing. Models with spawning turned off
+ * are ticked in each scenario to warm the JIT up, then the bytes the ticking thread
+ * allocates are counted over the ticks of a fresh model in each scenario. Exits with
+ * status 1 if any tick allocated, so it can guard the tick loop in a build.
+ *
+ * Two boards are measured. On the short one the bullets all fly off the top early on.
+ * On the tall one they are still crossing rows they have never been in while they are
+ * measured, which catches any per-cell state created on first use rather than reused.
+ *
+ * check() runs the same scenarios and returns the outcome, so a test can assert on it
+ * once the project has a build to run tests in.
+ *
+ * Run with: java game.benchmark.AllocationCheck
+ */
+public class AllocationCheck {
+    // Warming up on more than one model also compiles the paths a fresh model takes.
+    private static final int WARMUP_MODELS = 3;
+    private static final int WARMUP_TICKS = 10_000;
+    // Lets the measured model settle the arrays sized on its first tick.
+    private static final int SETTLE_TICKS = 10;
+    private static final int MEASURED_TICKS = 5_000;
+    private static final GameConfig SHORT_BOARD =
+            GameConfig.DEFAULT.withBoardSize(100, 400).withStartSpawnRate(0);
+    // Tall enough that the bullets are still on the board after every measured tick.
+    private static final GameConfig TALL_BOARD =
+            GameConfig.DEFAULT.withBoardSize(100, 12_000).withStartSpawnRate(0);
+
+    /**
+     * Measures every scenario and prints the bytes allocated over its measured ticks.
+     *
+     * @param args unused.
+     */
+    public static void main(String[] args) {
+        if (!check(System.out)) {
+            System.out.println("FAILED: the steady-state tick allocates");
+            System.exit(1);
+        }
+    }
+
+    /**
+     * Measures both boards in every collision mode, printing one line per scenario.
+     *
+     * @param out where to print the results.
+     * @return true if no measured tick allocated, or if the JVM cannot count allocations.
+     */
+    public static boolean check(PrintStream out) {
+        if (!isSupported()) {
+            out.println("Thread allocation counters are not supported by this JVM");
+            return true;
+        }
+        GameConfig[] boards = {SHORT_BOARD, TALL_BOARD};
+        // Warm every scenario up before measuring any, so that no scenario measures a
+        // recompilation caused by the ones run after the warm-up.
+        for (int i = 0; i < WARMUP_MODELS; i++) {
+            for (GameConfig board : boards) {
+                for (CollisionMode mode : CollisionMode.values()) {
+                    allocatedBytes(populated(mode, board), WARMUP_TICKS, 0);
+                }
+            }
+        }
+        boolean passed = true;
+        for (GameConfig board : boards) {
+            for (CollisionMode mode : CollisionMode.values()) {
+                GameModel model = populated(mode, board);
+                long bytes = allocatedBytes(model, SETTLE_TICKS, MEASURED_TICKS);
+                out.printf("%dx%-6d %-10s %6d bytes over %d ticks, %d objects%n",
+                        board.getWidth(), board.getHeight(), mode, bytes, MEASURED_TICKS,
+                        model.getSpaceObjects().size());
+                passed &= bytes == 0;
+            }
+        }
+        return passed;
+    }
+
+    /**
+     * Ticks the model through a warm-up, then returns the bytes the calling thread
+     * allocated over the measured ticks which follow it.
+     *
+     * @param model the model to tick, from tick 1.
+     * @param warmupTicks the number of ticks to run before measuring.
+     * @param measuredTicks the number of ticks to measure.
+     * @return the allocated bytes, or -1 if the JVM cannot count them.
+     */
+    public static long allocatedBytes(GameModel model, int warmupTicks, int measuredTicks) {
+        if (!isSupported()) {
+            return -1;
+        }
+        com.sun.management.ThreadMXBean allocations =
+                (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long thread = Thread.currentThread().getId();
+        int tick = 1;
+        while (tick <= warmupTicks) {
+            model.updateGame(tick++);
+        }
+        long start = allocations.getThreadAllocatedBytes(thread);
+        while (tick <= warmupTicks + measuredTicks) {
+            model.updateGame(tick++);
+        }
+        return allocations.getThreadAllocatedBytes(thread) - start;
+    }
+
+    private static boolean isSupported() {
+        ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+        return threads instanceof com.sun.management.ThreadMXBean;
+    }
+
+    /**
+     * Builds a model with a column of bullets rising through every column of the board
+     * and a row of power-ups which stay put.
+     */
+    private static GameModel populated(CollisionMode mode, GameConfig board) {
+        GameModel model = new GameModel(message -> { }, board);
+        model.setCollisionMode(mode);
+        // The same number of bullets on either board, spread over its height.
+        int spacing = board.getHeight() / 20;
+        for (int x = 0; x < board.getWidth(); x++) {
+            for (int y = board.getHeight() - 1; y >= 0; y -= spacing) {
+                model.addObject(new Bullet(x, y));
+            }
+            if (x % 10 == 0) {
+                model.addObject(new HealthPowerUp(x, board.getHeight() / 2));
+            }
+        }
+        return model;
+    }
+}
@@ -0,0 +1,204 @@
+package game.benchmark;
+
+import game.CollisionMode;
+import game.GameConfig;
+import game.GameController;
+import game.GameModel;
+import game.core.Asteroid;
+import game.core.Bullet;
+import game.core.Enemy;
+import game.core.HealthPowerUp;
+import game.core.SpaceObject;
+import game.render.DeltaRenderer;
+import game.ui.UI;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.lang.reflect.Proxy;
+import java.util.Random;
+import java.util.function.Supplier;
+
+/**
+ * Micro-benchmarks for the simulation hot paths: updateGame() at different object
+ * counts, collision-heavy waves, spawnObjects() and GameController.renderGame().
+ *
+ * Each scenario is set up afresh for every round, warmed up, then timed over several
+ * measured rounds. Reports the mean time per operation and, where the JVM supports
+ * thread allocation counters, the bytes allocated per operation, so regressions in
+ * either show up between runs.
+ *
+ * This is a plain main() rather than a JMH benchmark, as the project has no build file
+ * to bring JMH in. To run it, compile the sources against the game.ui classes the game
+ * itself is built with, then run it on an otherwise idle machine:
+ *
+ *     javac -d out -cp &lt;game.ui classes&gt; $(find src -name "*.java")
+ *     java -Xms2g -Xmx2g -cp out:&lt;game.ui classes&gt; game.benchmark.SimulationBenchmark
+ *
+ * A fixed heap keeps heap resizing out of the timings. Without JMH:
+ *  - every scenario runs in one JVM, so JIT and GC decisions made for an earlier
+ *    scenario carry into later ones. Only compare a scenario with the same scenario
+ *    from another run of the whole harness.
+ *  - warm-up is a fixed number of rounds, not until the timings settle. If the first
+ *    measured rounds still compile, -XX:+PrintCompilation shows it; raise WARMUP_ROUNDS.
+ *  - the output is a mean with no error estimate. Run the harness several times and
+ *    treat a difference smaller than the spread between those runs as noise.
+ *  - the bytes per operation need HotSpot's thread allocation counters and read "n/a"
+ *    on other JVMs. game.benchmark.AllocationCheck is the pass/fail allocation guard.
+ */
+public class SimulationBenchmark {
+    private static final int WARMUP_ROUNDS = 5;
+    private static final int MEASURED_ROUNDS = 10;
+    private static final int SEED = 2002;
+    // Large enough that objects spend the whole round on the board.
+    private static final GameConfig BIG_BOARD =
+            GameConfig.DEFAULT.withBoardSize(1000, 2000).withStartSpawnRate(0);
+
+    /**
+     * Runs every scenario and prints one line per scenario.
+     *
+     * @param args unused.
+     */
+    public static void main(String[] args) {
+        for (int count : new int[] {10, 1_000, 100_000}) {
+            measure("updateGame, " + count + " objects", opsFor(count),
+                    () -> ticking(populated(count, CollisionMode.DISCRETE)));
+        }
+        for (CollisionMode mode : CollisionMode.values()) {
+            measure("bullet columns vs enemy waves, " + mode, 20,
+                    () -> ticking(waves(mode)));
+        }
+        measure("spawnObjects, 100% spawn rate", 10_000, () -> {
+            GameModel model = new GameModel(message -> { },
+                    BIG_BOARD.withStartSpawnRate(100).withSpawnRatios(1, 1));
+            model.setRandomSeed(SEED);
+            return model::spawnObjects;
+        });
+        for (int count : new int[] {10, 1_000, 100_000}) {
+            measure("renderGame, " + count + " objects", opsFor(count), () -> {
+                GameController controller = new GameController(silentUi(),
+                        populated(count, CollisionMode.DISCRETE));
+                return controller::renderGame;
+            });
+        }
+        for (int count : new int[] {10, 1_000, 100_000}) {
+            measure("renderGame delta + updateGame, " + count + " objects", opsFor(count),
+                    () -> {
+                        GameModel model = populated(count, CollisionMode.DISCRETE);
+                        GameController controller =
+                                new GameController(silentDeltaUi(), model);
+                        Runnable tick = ticking(model);
+                        return () -> {
+                            tick.run();
+                            controller.renderGame();
+                        };
+                    });
+        }
+    }
+
+    /**
+     * Times a scenario and prints the mean cost per operation.
+     *
+     * @param name the scenario name.
+     * @param ops the number of operations per round.
+     * @param setUp builds fresh state for a round and returns the operation to time.
+     */
+    private static void measure(String name, int ops, Supplier<Runnable> setUp) {
+        ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+        com.sun.management.ThreadMXBean allocations =
+                threads instanceof com.sun.management.ThreadMXBean
+                ? (com.sun.management.ThreadMXBean) threads : null;
+        long thread = Thread.currentThread().getId();
+        long nanos = 0;
+        long bytes = 0;
+        for (int round = 0; round < WARMUP_ROUNDS + MEASURED_ROUNDS; round++) {
+            Runnable op = setUp.get();
+            long startBytes = allocations == null ? 0
+                    : allocations.getThreadAllocatedBytes(thread);
+            long start = System.nanoTime();
+            for (int i = 0; i < ops; i++) {
+                op.run();
+            }
+            long elapsed = System.nanoTime() - start;
+            long allocated = allocations == null ? 0
+                    : allocations.getThreadAllocatedBytes(thread) - startBytes;
+            if (round >= WARMUP_ROUNDS) {
+                nanos += elapsed;
+                bytes += allocated;
+            }
+        }
+        long total = (long) ops * MEASURED_ROUNDS;
+        System.out.printf("%-45s %12.1f ns/op %12s%n", name, (double) nanos / total,
+                allocations == null ? "n/a" : String.format("%.1f B/op", (double) bytes / total));
+    }
+
+    private static int opsFor(int objects) {
+        return Math.max(20, 1_000_000 / objects);
+    }
+
+    private static Runnable ticking(GameModel model) {
+        int[] tick = {1};
+        return () -> model.updateGame(tick[0]++);
+    }
+
+    /**
+     * Builds a model with the given number of objects scattered over a large board.
+     */
+    private static GameModel populated(int count, CollisionMode mode) {
+        GameModel model = new GameModel(message -> { }, BIG_BOARD);
+        model.setRandomSeed(SEED);
+        model.setCollisionMode(mode);
+        Random random = new Random(SEED);
+        for (int i = 0; i < count; i++) {
+            int x = random.nextInt(BIG_BOARD.getWidth());
+            int y = random.nextInt(BIG_BOARD.getHeight() / 2);
+            model.addObject(randomObject(random.nextInt(4), x, y));
+        }
+        return model;
+    }
+
+    /**
+     * Builds a model where every column has a stack of bullets below a wave of enemies,
+     * so the two sides meet and collide over the first few ticks.
+     */
+    private static GameModel waves(CollisionMode mode) {
+        GameModel model = new GameModel(message -> { }, BIG_BOARD);
+        model.setRandomSeed(SEED);
+        model.setCollisionMode(mode);
+        int middle = BIG_BOARD.getHeight() / 2;
+        for (int x = 0; x < BIG_BOARD.getWidth(); x++) {
+            for (int depth = 1; depth <= 20; depth++) {
+                model.addObject(new Enemy(x, middle - depth));
+                model.addObject(new Bullet(x, middle + depth));
+            }
+        }
+        return model;
+    }
+
+    private static SpaceObject randomObject(int kind, int x, int y) {
+        switch (kind) {
+            case 0:
+                return new Asteroid(x, y);
+            case 1:
+                return new Enemy(x, y);
+            case 2:
+                return new Bullet(x, y);
+            default:
+                return new HealthPowerUp(x, y);
+        }
+    }
+
+    /**
+     * Returns a UI whose every method does nothing, so only the controller is measured.
+     */
+    private static UI silentUi() {
+        return (UI) Proxy.newProxyInstance(UI.class.getClassLoader(),
+                new Class<?>[] {UI.class}, (proxy, method, args) -> null);
+    }
+
+    /**
+     * Returns a silent UI which also accepts per-frame deltas.
+     */
+    private static UI silentDeltaUi() {
+        return (UI) Proxy.newProxyInstance(UI.class.getClassLoader(),
+                new Class<?>[] {UI.class, DeltaRenderer.class}, (proxy, method, args) -> null);
+    }
+}
@@ -5,9 +5,11 @@ import game.ui.ObjectGraphic;
 /**
  * Represents an asteroid object.
  */
-public class Asteroid implements SpaceObject {
-    private int xpos;
-    private int ypos;
+public class Asteroid extends ObjectWithPosition {
+    // Note: Ensure the image path is correct.
+    // If stored in the project's root assets folder, use "assets/asteroid.png"
+    private static final ObjectGraphic GRAPHIC =
+            new ObjectGraphic("🌑", "assets/asteroid.png");
 
     /**
      * Constructs an Asteroid with the specified coordinates.
@@ -16,18 +18,7 @@ public class Asteroid implements SpaceObject {
      * @param y the y-coordinate.
      */
     public Asteroid(int x, int y) {
-        this.xpos = x;
-        this.ypos = y;
-    }
-
-    @Override
-    public int getX() {
-        return xpos;
-    }
-
-    @Override
-    public int getY() {
-        return ypos;
+        super(x, y);
     }
 
     /**
@@ -38,14 +29,12 @@ public class Asteroid implements SpaceObject {
      */
     @Override
     public ObjectGraphic render() {
-        // Note: Ensure the image path is correct.
-        // If stored in the project's root assets folder, use "assets/asteroid.png"
-        return new ObjectGraphic("🌑", "assets/asteroid.png");
+        return GRAPHIC;
     }
 
     @Override
     public void tick(int tick) {
-        ypos++; // Moves downward each tick
+        y++; // Moves downward each tick
     }
 }
 
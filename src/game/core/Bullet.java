@@ -5,9 +5,9 @@ import game.ui.ObjectGraphic;
 /**
  * Represents a bullet object.
  */
-public class Bullet implements SpaceObject {
-    private int xpos;
-    private int ypos;
+public class Bullet extends ObjectWithPosition {
+    private static final ObjectGraphic GRAPHIC =
+            new ObjectGraphic("Bullet", "assets/bullet.png");
 
     /**
      * Constructs a Bullet with the specified coordinates.
@@ -16,18 +16,7 @@ public class Bullet implements SpaceObject {
      * @param y the y-coordinate of the bullet.
      */
     public Bullet(int x, int y) {
-        this.xpos = x;
-        this.ypos = y;
-    }
-
-    @Override
-    public int getX() {
-        return xpos;
-    }
-
-    @Override
-    public int getY() {
-        return ypos;
+        super(x, y);
     }
 
     /**
@@ -38,11 +27,11 @@ public class Bullet implements SpaceObject {
      */
     @Override
     public ObjectGraphic render() {
-        return new ObjectGraphic("Bullet", "assets/bullet.png");
+        return GRAPHIC;
     }
 
     @Override
     public void tick(int tick) {
-        ypos--; // Moves upward each tick
+        y--; // Moves upward each tick
     }
 }
@@ -5,9 +5,9 @@ import game.ui.ObjectGraphic;
 /**
  * Represents a standard enemy object.
  */
-public class Enemy implements SpaceObject {
-    private int xpos;
-    private int ypos;
+public class Enemy extends ObjectWithPosition {
+    private static final ObjectGraphic GRAPHIC =
+            new ObjectGraphic("👾", "assets/enemy.png");
 
     /**
      * Constructs an Enemy with the specified coordinates.
@@ -16,18 +16,7 @@ public class Enemy implements SpaceObject {
      * @param y the y-coordinate of the enemy.
      */
     public Enemy(int x, int y) {
-        this.xpos = x;
-        this.ypos = y;
-    }
-
-    @Override
-    public int getX() {
-        return xpos;
-    }
-
-    @Override
-    public int getY() {
-        return ypos;
+        super(x, y);
     }
 
     /**
@@ -36,7 +25,7 @@ public class Enemy implements SpaceObject {
      * @param newY the new y-coordinate.
      */
     protected void setY(int newY) {
-        this.ypos = newY;
+        this.y = newY;
     }
 
     /**
@@ -47,13 +36,12 @@ public class Enemy implements SpaceObject {
      */
     @Override
     public ObjectGraphic render() {
-        // Modify the image path to the correct path "assets/enemy.png"
-        return new ObjectGraphic("👾", "assets/enemy.png");
+        return GRAPHIC;
     }
 
     @Override
     public void tick(int tick) {
-        ypos++; // Moves downward each tick
+        y++; // Moves downward each tick
     }
 }
 
@@ -0,0 +1,110 @@
+package game.core;
+
+/**
+ * The type tags used wherever SpaceObjects are handled by kind rather than by class:
+ * spawning, pooling, motions, the per-type indices of a GameModel, snapshots, spawn
+ * schedules and render frames.
+ *
+ * ASTEROID to SHIELD_POWER_UP name the classes create() builds. typeOf() classifies
+ * any object, so a subclass gets the tag of the built-in class it extends, another
+ * PowerUp gets POWER_UP and anything else OTHER; isCreatable() tells whether create()
+ * could rebuild the object exactly.
+ */
+public final class EntityType {
+    /** Tag for an Asteroid. */
+    public static final byte ASTEROID = 0;
+    /** Tag for an Enemy. */
+    public static final byte ENEMY = 1;
+    /** Tag for a Bullet. */
+    public static final byte BULLET = 2;
+    /** Tag for a HealthPowerUp. */
+    public static final byte HEALTH_POWER_UP = 3;
+    /** Tag for a ShieldPowerUp. */
+    public static final byte SHIELD_POWER_UP = 4;
+    /** Tag for a PowerUp of any other class. */
+    public static final byte POWER_UP = 5;
+    /** Tag for any other kind of SpaceObject. */
+    public static final byte OTHER = 6;
+    /** The number of tags, i.e. one more than the largest. */
+    public static final int COUNT = 7;
+
+    // The class create() builds for each tag, up to SHIELD_POWER_UP.
+    private static final Class<?>[] CLASSES = {
+        Asteroid.class, Enemy.class, Bullet.class, HealthPowerUp.class, ShieldPowerUp.class
+    };
+
+    private EntityType() {
+    }
+
+    /**
+     * Returns the type tag for the given SpaceObject.
+     *
+     * @param object the object to classify.
+     * @return the tag of the built-in class it is an instance of, POWER_UP for any other
+     *         PowerUp, or OTHER.
+     */
+    public static byte typeOf(SpaceObject object) {
+        if (object instanceof Asteroid) {
+            return ASTEROID;
+        } else if (object instanceof Enemy) {
+            return ENEMY;
+        } else if (object instanceof Bullet) {
+            return BULLET;
+        } else if (object instanceof HealthPowerUp) {
+            return HEALTH_POWER_UP;
+        } else if (object instanceof ShieldPowerUp) {
+            return SHIELD_POWER_UP;
+        } else if (object instanceof PowerUp) {
+            return POWER_UP;
+        }
+        return OTHER;
+    }
+
+    /**
+     * Returns whether create() can rebuild the given object, i.e. whether it is exactly
+     * one of the built-in classes rather than a subclass or some other SpaceObject.
+     *
+     * @param object the object.
+     * @return true if its class is the one create() builds for its tag.
+     */
+    public static boolean isCreatable(SpaceObject object) {
+        byte type = typeOf(object);
+        return type <= SHIELD_POWER_UP && object.getClass() == CLASSES[type];
+    }
+
+    /**
+     * Returns whether objects with the given tag are PowerUps.
+     *
+     * @param type the type tag.
+     * @return true for HEALTH_POWER_UP, SHIELD_POWER_UP and POWER_UP.
+     */
+    public static boolean isPowerUp(byte type) {
+        return type == HEALTH_POWER_UP || type == SHIELD_POWER_UP || type == POWER_UP;
+    }
+
+    /**
+     * Creates a SpaceObject of the type with the given tag.
+     *
+     * @param type the type tag, at most SHIELD_POWER_UP.
+     * @param x the x-coordinate.
+     * @param y the y-coordinate.
+     * @return a new SpaceObject of that type at (x, y).
+     * @throws IllegalArgumentException if no class is built for the type tag.
+     */
+    public static SpaceObject create(byte type, int x, int y) {
+        switch (type) {
+            case ASTEROID:
+                return new Asteroid(x, y);
+            case ENEMY:
+                return new Enemy(x, y);
+            case BULLET:
+                return new Bullet(x, y);
+            case HEALTH_POWER_UP:
+                return new HealthPowerUp(x, y);
+            case SHIELD_POWER_UP:
+                return new ShieldPowerUp(x, y);
+            default:
+                throw new IllegalArgumentException("Unknown type tag " + type);
+        }
+    }
+}
@@ -6,6 +6,9 @@ import game.ui.ObjectGraphic;
  * Represents a health power-up that increases the ship's health.
  */
 public class HealthPowerUp extends PowerUp implements PowerUpEffect {
+    private static final ObjectGraphic GRAPHIC =
+            new ObjectGraphic("HealthPowerUp", "src/assets/health.png");
+
     private int healAmount = 20; // Fixed bonus value
 
     /**
@@ -20,7 +23,7 @@ public class HealthPowerUp extends PowerUp implements PowerUpEffect {
 
     @Override
     public ObjectGraphic render() {
-        return new ObjectGraphic("HealthPowerUp", "src/assets/health.png");
+        return GRAPHIC;
     }
 
     @Override
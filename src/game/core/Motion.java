@@ -0,0 +1,124 @@
+package game.core;
+
+/**
+ * How an object moves each tick: a velocity, plus an optional MovementPattern that
+ * steers it sideways. Motions are immutable and can be shared by any number of objects.
+ *
+ * Example: an enemy that falls one row per tick while weaving over three columns is
+ * Motion.DOWN.withPattern(Motion.zigZag(3)).
+ */
+public final class Motion {
+    /** One row down per tick, like an Asteroid or Enemy. */
+    public static final Motion DOWN = new Motion(0, 1, null);
+    /** One row up per tick, like a Bullet. */
+    public static final Motion UP = new Motion(0, -1, null);
+    /** Two rows down per tick, like a DescendingEnemy. */
+    public static final Motion FAST_DOWN = new Motion(0, 2, null);
+    /** No movement, like a PowerUp. */
+    public static final Motion STILL = new Motion(0, 0, null);
+
+    private final int dx;
+    private final int dy;
+    private final MovementPattern pattern;
+
+    private Motion(int dx, int dy, MovementPattern pattern) {
+        this.dx = dx;
+        this.dy = dy;
+        this.pattern = pattern;
+    }
+
+    /**
+     * Returns a motion with a constant velocity.
+     *
+     * @param dx the change in x per tick.
+     * @param dy the change in y per tick.
+     * @return the motion.
+     */
+    public static Motion velocity(int dx, int dy) {
+        return new Motion(dx, dy, null);
+    }
+
+    /**
+     * Returns a motion with this velocity which is also steered by the given pattern.
+     *
+     * @param pattern the pattern, or null for none.
+     * @return the motion.
+     */
+    public Motion withPattern(MovementPattern pattern) {
+        return new Motion(dx, dy, pattern);
+    }
+
+    /**
+     * Returns a pattern which moves one column right every tick for the given number of
+     * ticks, then one column left for as many, and so on.
+     *
+     * @param period the number of ticks spent moving in each direction, at least 1.
+     * @return the pattern.
+     */
+    public static MovementPattern zigZag(int period) {
+        int ticks = Math.max(1, period);
+        return (x, y, tick, targetX) -> (tick / ticks) % 2 == 0 ? 1 : -1;
+    }
+
+    /**
+     * Returns a pattern which moves one column towards the ship every given number of
+     * ticks.
+     *
+     * @param every the number of ticks between steps, at least 1.
+     * @return the pattern.
+     */
+    public static MovementPattern homing(int every) {
+        int ticks = Math.max(1, every);
+        return (x, y, tick, targetX) -> tick % ticks == 0 ? Integer.signum(targetX - x) : 0;
+    }
+
+    /**
+     * Returns the usual motion of a type of object.
+     *
+     * @param type an EntityType tag.
+     * @return DOWN for asteroids and enemies, UP for bullets and STILL for power-ups.
+     */
+    public static Motion forType(byte type) {
+        switch (type) {
+            case EntityType.ASTEROID:
+            case EntityType.ENEMY:
+                return DOWN;
+            case EntityType.BULLET:
+                return UP;
+            default:
+                return STILL;
+        }
+    }
+
+    /**
+     * Returns the change in x per tick, not counting the pattern.
+     *
+     * @return the x velocity.
+     */
+    public int getDx() {
+        return dx;
+    }
+
+    /**
+     * Returns the change in y per tick.
+     *
+     * @return the y velocity.
+     */
+    public int getDy() {
+        return dy;
+    }
+
+    /**
+     * Returns the pattern steering this motion.
+     *
+     * @return the pattern, or null if there is none.
+     */
+    public MovementPattern getPattern() {
+        return pattern;
+    }
+
+    @Override
+    public String toString() {
+        return "Motion[" + dx + ", " + dy + (pattern == null ? "" : ", patterned") + "]";
+    }
+}
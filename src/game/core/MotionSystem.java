@@ -0,0 +1,284 @@
+package game.core;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * The Motion of every object in a list, held in parallel arrays by list index and
+ * advanced in one loop. Asteroids, Enemies, Bullets and PowerUps are moved by writing
+ * their new position directly, so the loop makes no virtual tick() calls for them and
+ * adding a new way of moving needs a Motion rather than a subclass.
+ *
+ * Objects of any other class, and subclasses such as DescendingEnemy added without an
+ * explicit Motion, keep moving through their own tick().
+ *
+ * The owner keeps the indices in step with its list: add() appends, and removals are
+ * mirrored with copy() and truncate(). An object found at an index that holds another
+ * object's motion gets its usual motion instead. Not thread-safe.
+ */
+public class MotionSystem {
+    // Stored instead of an EntityType tag for objects which move by calling tick().
+    private static final byte CUSTOM = -1;
+
+    // The EntityType tag of each object whose position is written directly, or CUSTOM.
+    private byte[] kinds = new byte[16];
+    private int[] dxs = new int[16];
+    private int[] dys = new int[16];
+    private MovementPattern[] patterns = new MovementPattern[16];
+    // The object each motion belongs to.
+    private SpaceObject[] owners = new SpaceObject[16];
+    private int size;
+
+    /**
+     * Appends an object with its usual motion: Motion.forType() for Asteroids,
+     * Enemies, Bullets, HealthPowerUps and ShieldPowerUps, and its own tick() for
+     * anything else.
+     *
+     * @param object the object at the next index.
+     */
+    public void add(SpaceObject object) {
+        ensureCapacity(size + 1);
+        set(size++, object, null);
+    }
+
+    /**
+     * Appends an object with the given motion.
+     *
+     * @param object the object at the next index.
+     * @param motion its motion, or null for its usual motion.
+     * @throws IllegalArgumentException if a motion is given for an object which is not
+     *                                  an Asteroid, Enemy, Bullet or PowerUp.
+     */
+    public void add(SpaceObject object, Motion motion) {
+        byte kind = kindOf(object);
+        if (motion != null && kind == CUSTOM) {
+            throw new IllegalArgumentException("Cannot set the motion of a "
+                    + object.getClass().getSimpleName());
+        }
+        ensureCapacity(size + 1);
+        set(size++, object, motion);
+    }
+
+    /**
+     * Replaces the motion of the object at the given index.
+     *
+     * @param index the object's index.
+     * @param object the object at that index.
+     * @param motion its new motion, or null for its usual motion.
+     * @throws IndexOutOfBoundsException if the index is not below size().
+     * @throws IllegalArgumentException if a motion is given for an object which is not
+     *                                  an Asteroid, Enemy, Bullet or PowerUp.
+     */
+    public void setMotion(int index, SpaceObject object, Motion motion) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index " + index + " out of " + size);
+        }
+        if (motion != null && kindOf(object) == CUSTOM) {
+            throw new IllegalArgumentException("Cannot set the motion of a "
+                    + object.getClass().getSimpleName());
+        }
+        set(index, object, motion);
+    }
+
+    /**
+     * Returns the motion of the object at the given index.
+     *
+     * @param index the object's index.
+     * @return its motion, or null if it moves through its own tick().
+     */
+    public Motion getMotion(int index) {
+        if (kinds[index] == CUSTOM) {
+            return null;
+        }
+        return Motion.velocity(dxs[index], dys[index]).withPattern(patterns[index]);
+    }
+
+    /**
+     * Returns the x-velocity of the object at the given index, like getMotion().getDx()
+     * but without building a Motion.
+     *
+     * @param index the object's index.
+     * @return its x-velocity, or 0 if it moves through its own tick().
+     */
+    public int getDx(int index) {
+        return dxs[index];
+    }
+
+    /**
+     * Returns the y-velocity of the object at the given index, like getMotion().getDy()
+     * but without building a Motion.
+     *
+     * @param index the object's index.
+     * @return its y-velocity, or 0 if it moves through its own tick().
+     */
+    public int getDy(int index) {
+        return dys[index];
+    }
+
+    /**
+     * Returns the movement pattern of the object at the given index, like
+     * getMotion().getPattern() but without building a Motion.
+     *
+     * @param index the object's index.
+     * @return its pattern, or null if it has none or moves through its own tick().
+     */
+    public MovementPattern getPattern(int index) {
+        return patterns[index];
+    }
+
+    private void set(int index, SpaceObject object, Motion motion) {
+        byte kind = kindOf(object);
+        if (motion == null && kind != CUSTOM) {
+            motion = usualMotion(object);
+            if (motion == null) {
+                kind = CUSTOM; // A subclass which may move differently.
+            }
+        }
+        owners[index] = object;
+        kinds[index] = kind;
+        dxs[index] = kind == CUSTOM ? 0 : motion.getDx();
+        dys[index] = kind == CUSTOM ? 0 : motion.getDy();
+        patterns[index] = kind == CUSTOM ? null : motion.getPattern();
+    }
+
+    /**
+     * Copies the motion at one index to another, e.g. while compacting the list.
+     *
+     * @param from the index to copy.
+     * @param to the index to overwrite.
+     */
+    public void copy(int from, int to) {
+        owners[to] = owners[from];
+        kinds[to] = kinds[from];
+        dxs[to] = dxs[from];
+        dys[to] = dys[from];
+        patterns[to] = patterns[from];
+    }
+
+    /**
+     * Forgets the motions at and after the given index.
+     *
+     * @param newSize the number of motions to keep.
+     */
+    public void truncate(int newSize) {
+        if (newSize < size) {
+            Arrays.fill(patterns, newSize, size, null);
+            Arrays.fill(owners, newSize, size, null);
+            size = newSize;
+        }
+    }
+
+    /**
+     * Replaces every motion with the usual motion of the object at the same index.
+     *
+     * @param objects the objects.
+     */
+    public void rebuild(List<SpaceObject> objects) {
+        truncate(0);
+        ensureCapacity(objects.size());
+        for (int i = 0; i < objects.size(); i++) {
+            set(size++, objects.get(i), null);
+        }
+    }
+
+    /**
+     * Returns the number of motions.
+     *
+     * @return the number of motions.
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Moves every object by its motion, recording where each one started.
+     *
+     * @param objects the objects, at the same indices as their motions.
+     * @param tick the current tick.
+     * @param targetX the x-coordinate homing patterns steer towards.
+     * @param previousX receives each object's x-coordinate before the move.
+     * @param previousY receives each object's y-coordinate before the move.
+     */
+    public void advance(List<SpaceObject> objects, int tick, int targetX,
+                        int[] previousX, int[] previousY) {
+        advance(objects, 0, size, tick, targetX, previousX, previousY);
+    }
+
+    /**
+     * Moves the objects at indices from (inclusive) to to (exclusive) by their motion.
+     * Only those indices are read or written, so disjoint ranges of one list can be
+     * advanced by different threads at the same time, provided the objects' own tick()
+     * methods are independent of each other.
+     *
+     * @param objects the objects, at the same indices as their motions.
+     * @param from the first index to move.
+     * @param to the index after the last one to move, at most size().
+     * @param tick the current tick.
+     * @param targetX the x-coordinate homing patterns steer towards.
+     * @param previousX receives each object's x-coordinate before the move.
+     * @param previousY receives each object's y-coordinate before the move.
+     */
+    public void advance(List<SpaceObject> objects, int from, int to, int tick, int targetX,
+                        int[] previousX, int[] previousY) {
+        for (int i = from; i < to; i++) {
+            SpaceObject obj = objects.get(i);
+            if (owners[i] != obj) {
+                set(i, obj, null);
+            }
+            byte kind = kinds[i];
+            if (kind == CUSTOM) {
+                previousX[i] = obj.getX();
+                previousY[i] = obj.getY();
+                obj.tick(tick);
+                continue;
+            }
+            // Every built-in kind extends ObjectWithPosition, whose getters the JIT can
+            // inline once the object is cast to it; obj.getX() would not be.
+            ObjectWithPosition moved = (ObjectWithPosition) obj;
+            int x = moved.getX();
+            int y = moved.getY();
+            previousX[i] = x;
+            previousY[i] = y;
+            int newX = x + dxs[i];
+            MovementPattern pattern = patterns[i];
+            if (pattern != null) {
+                newX += pattern.stepX(x, y, tick, targetX);
+            }
+            moved.reset(newX, y + dys[i]);
+        }
+    }
+
+    private static byte kindOf(SpaceObject obj) {
+        byte type = EntityType.typeOf(obj);
+        return type == EntityType.OTHER ? CUSTOM : type;
+    }
+
+    /**
+     * Returns the motion of a built-in class, or null for a subclass, whose tick()
+     * may have been overridden.
+     */
+    private static Motion usualMotion(SpaceObject obj) {
+        Class<?> type = obj.getClass();
+        if (type == Asteroid.class) {
+            return Motion.forType(EntityType.ASTEROID);
+        } else if (type == Enemy.class) {
+            return Motion.forType(EntityType.ENEMY);
+        } else if (type == Bullet.class) {
+            return Motion.forType(EntityType.BULLET);
+        } else if (type == HealthPowerUp.class || type == ShieldPowerUp.class) {
+            return Motion.STILL;
+        }
+        return null;
+    }
+
+    private void ensureCapacity(int capacity) {
+        if (capacity > kinds.length) {
+            int length = Math.max(capacity, kinds.length * 2);
+            kinds = Arrays.copyOf(kinds, length);
+            dxs = Arrays.copyOf(dxs, length);
+            dys = Arrays.copyOf(dys, length);
+            patterns = Arrays.copyOf(patterns, length);
+            owners = Arrays.copyOf(owners, length);
+        }
+    }
+}
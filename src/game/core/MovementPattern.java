@@ -0,0 +1,20 @@
+package game.core;
+
+/**
+ * A sideways steering rule for a Motion, such as a zig-zag or homing in on the ship.
+ * Patterns are called once per object per tick, so they should be cheap and must not
+ * keep per-object state; everything they need is passed in.
+ */
+@FunctionalInterface
+public interface MovementPattern {
+    /**
+     * Returns how far an object moves sideways this tick, on top of its velocity.
+     *
+     * @param x the object's x-coordinate before the move.
+     * @param y the object's y-coordinate before the move.
+     * @param tick the current tick.
+     * @param targetX the x-coordinate of the ship.
+     * @return the change in x for this tick.
+     */
+    int stepX(int x, int y, int tick, int targetX);
+}
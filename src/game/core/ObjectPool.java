@@ -0,0 +1,167 @@
+package game.core;
+
+/**
+ * Per-type free lists of Asteroids, Enemies, Bullets and power-ups, so a busy game can
+ * reuse objects that left the board instead of allocating new ones for every spawn.
+ *
+ * obtain() hands out a recycled object reset to the requested position, or a new one
+ * if none is free. recycle() takes back an object that nothing references any more;
+ * only the exact classes above are pooled, and an object already in the pool or a pool
+ * that is full is ignored. Counters per type show how well each pool's capacity fits.
+ *
+ * Pools are not thread-safe; use one per GameModel.
+ */
+public class ObjectPool {
+    /** The default number of free objects kept per type. */
+    public static final int DEFAULT_CAPACITY = 256;
+
+    private static final int TYPES = 5;
+    // The pooled class for each EntityType tag.
+    private static final Class<?>[] CLASSES = {
+        Asteroid.class, Enemy.class, Bullet.class, HealthPowerUp.class, ShieldPowerUp.class
+    };
+
+    private final int capacity;
+    private final ObjectWithPosition[][] free;
+    private final int[] freeCount = new int[TYPES];
+    private final long[] created = new long[TYPES];
+    private final long[] reused = new long[TYPES];
+    private final long[] discarded = new long[TYPES];
+
+    /**
+     * Creates pools which each keep up to DEFAULT_CAPACITY free objects.
+     */
+    public ObjectPool() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Creates pools which each keep up to the given number of free objects.
+     *
+     * @param capacity the most free objects kept per type.
+     */
+    public ObjectPool(int capacity) {
+        this.capacity = Math.max(0, capacity);
+        this.free = new ObjectWithPosition[TYPES][this.capacity];
+    }
+
+    /**
+     * Returns an object of the given type at the given position, reusing a free one
+     * if there is one.
+     *
+     * @param type the EntityType tag.
+     * @param x the x-coordinate.
+     * @param y the y-coordinate.
+     * @return an object in the state of a newly constructed one.
+     * @throws IllegalArgumentException if the type tag is unknown.
+     */
+    public SpaceObject obtain(byte type, int x, int y) {
+        if (type >= 0 && type < TYPES && freeCount[type] > 0) {
+            ObjectWithPosition obj = free[type][--freeCount[type]];
+            free[type][freeCount[type]] = null;
+            obj.pooled = false;
+            obj.reset(x, y);
+            reused[type]++;
+            return obj;
+        }
+        SpaceObject obj = EntityType.create(type, x, y);
+        created[type]++;
+        return obj;
+    }
+
+    /**
+     * Takes back an object for reuse. The caller must not use it afterwards.
+     *
+     * @param obj the object, which nothing else may still reference.
+     * @return true if the object was pooled.
+     */
+    public boolean recycle(SpaceObject obj) {
+        int type = obj == null ? -1 : indexOf(obj);
+        if (type < 0 || ((ObjectWithPosition) obj).pooled) {
+            return false;
+        }
+        if (freeCount[type] == capacity) {
+            discarded[type]++;
+            return false;
+        }
+        ObjectWithPosition pooled = (ObjectWithPosition) obj;
+        pooled.pooled = true;
+        free[type][freeCount[type]++] = pooled;
+        return true;
+    }
+
+    /**
+     * Returns the number of free objects waiting in a type's pool.
+     *
+     * @param type the EntityType tag.
+     * @return the free object count.
+     */
+    public int getFreeCount(byte type) {
+        return freeCount[type];
+    }
+
+    /**
+     * Returns how many objects of a type obtain() had to allocate.
+     *
+     * @param type the EntityType tag.
+     * @return the allocation count.
+     */
+    public long getCreatedCount(byte type) {
+        return created[type];
+    }
+
+    /**
+     * Returns how many objects of a type obtain() reused from the pool.
+     *
+     * @param type the EntityType tag.
+     * @return the reuse count.
+     */
+    public long getReusedCount(byte type) {
+        return reused[type];
+    }
+
+    /**
+     * Returns how many objects of a type recycle() turned away because the pool was full.
+     * A high count relative to getCreatedCount() suggests raising the capacity.
+     *
+     * @param type the EntityType tag.
+     * @return the discarded object count.
+     */
+    public long getDiscardedCount(byte type) {
+        return discarded[type];
+    }
+
+    /**
+     * Returns the most free objects kept per type.
+     *
+     * @return the capacity.
+     */
+    public int getCapacity() {
+        return capacity;
+    }
+
+    private static int indexOf(SpaceObject obj) {
+        for (int type = 0; type < TYPES; type++) {
+            if (obj.getClass() == CLASSES[type]) {
+                return type;
+            }
+        }
+        return -1;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder out = new StringBuilder("ObjectPool[");
+        for (int type = 0; type < TYPES; type++) {
+            if (type > 0) {
+                out.append(", ");
+            }
+            out.append(CLASSES[type].getSimpleName()).append(' ')
+                    .append(freeCount[type]).append(" free/")
+                    .append(created[type]).append(" created/")
+                    .append(reused[type]).append(" reused/")
+                    .append(discarded[type]).append(" discarded");
+        }
+        return out.append(']').toString();
+    }
+}
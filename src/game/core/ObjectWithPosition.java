@@ -9,6 +9,8 @@ import game.ui.ObjectGraphic;
 public abstract class ObjectWithPosition implements SpaceObject {
     protected int x;
     protected int y;
+    // Set while the object waits in an ObjectPool, so it cannot be recycled twice.
+    boolean pooled;
     
     /**
      * Constructs an object with the specified coordinates.
@@ -31,6 +33,18 @@ public abstract class ObjectWithPosition implements SpaceObject {
         return y;
     }
     
+    /**
+     * Moves the object to the given position as if it had just been constructed there,
+     * so an ObjectPool can reuse it. A MotionSystem also moves objects with it.
+     *
+     * @param x the new x-coordinate.
+     * @param y the new y-coordinate.
+     */
+    void reset(int x, int y) {
+        this.x = x;
+        this.y = y;
+    }
+    
     @Override
     public abstract ObjectGraphic render();
     
@@ -4,12 +4,9 @@ import game.ui.ObjectGraphic;
 
 /**
  * Abstract class representing a generic power-up.
- * Implements SpaceObject and PowerUpEffect.
+ * Extends ObjectWithPosition and implements PowerUpEffect.
  */
-public abstract class PowerUp implements SpaceObject, PowerUpEffect {
-    private int xpos;
-    private int ypos;
-
+public abstract class PowerUp extends ObjectWithPosition implements PowerUpEffect {
     /**
      * Constructs a PowerUp with the specified coordinates.
      *
@@ -17,18 +14,7 @@ public abstract class PowerUp implements SpaceObject, PowerUpEffect {
      * @param y the y-coordinate.
      */
     public PowerUp(int x, int y) {
-        this.xpos = x;
-        this.ypos = y;
-    }
-
-    @Override
-    public int getX() {
-        return xpos;
-    }
-
-    @Override
-    public int getY() {
-        return ypos;
+        super(x, y);
     }
 
     @Override
@@ -6,6 +6,9 @@ import game.ui.ObjectGraphic;
  * Represents a shield power-up that grants the ship temporary invincibility.
  */
 public class ShieldPowerUp extends PowerUp implements PowerUpEffect {
+    private static final ObjectGraphic GRAPHIC =
+            new ObjectGraphic("ShieldPowerUp", "src/assets/shield.png");
+
     private int duration = 50; // Fixed duration
 
     /**
@@ -20,7 +23,7 @@ public class ShieldPowerUp extends PowerUp implements PowerUpEffect {
 
     @Override
     public ObjectGraphic render() {
-        return new ObjectGraphic("ShieldPowerUp", "src/assets/shield.png");
+        return GRAPHIC;
     }
 
     @Override
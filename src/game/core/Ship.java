@@ -9,17 +9,20 @@ import game.GameModel;
  * Represents the player's ship.
  */
 public class Ship extends Controllable {
+    private static final ObjectGraphic GRAPHIC =
+            new ObjectGraphic("Ship", "src/assets/ship.png");
+
     private int health;
     private int score;
+    private final int boardWidth;
+    private final int boardHeight;
 
     /**
      * Constructs a Ship with default position and health.
      * e.g. position (0,0) and health=100
      */
     public Ship() {
-        super(0, 0); // Call the superclass's (x,y) initialization
-        this.health = 100;
-        this.score = 0;
+        this(0, 0, 100);
     }
 
     /**
@@ -30,14 +33,30 @@ public class Ship extends Controllable {
      * @param health the initial health
      */
     public Ship(int x, int y, int health) {
-        super(x, y);
+        this(x, y, health, GameModel.GAME_WIDTH, GameModel.GAME_HEIGHT);
+    }
+
+    /**
+     * Constructs a Ship with the specified position and health, confined to a board
+     * of the given size instead of the default one.
+     *
+     * @param x the x-coordinate
+     * @param y the y-coordinate
+     * @param health the initial health
+     * @param boardWidth the number of columns the ship may move within
+     * @param boardHeight the number of rows the ship may move within
+     */
+    public Ship(int x, int y, int health, int boardWidth, int boardHeight) {
+        super(x, y); // Call the superclass's (x,y) initialization
         this.health = health;
         this.score = 0;
+        this.boardWidth = boardWidth;
+        this.boardHeight = boardHeight;
     }
 
     @Override
     public ObjectGraphic render() {
-        return new ObjectGraphic("Ship", "src/assets/ship.png");
+        return GRAPHIC;
     }
 
     @Override
@@ -65,9 +84,9 @@ public class Ship extends Controllable {
         }
         // Boundary check
         if (newX < 0 
-            || newX >= GameModel.GAME_WIDTH
+            || newX >= boardWidth
             || newY < 0
-            || newY >= GameModel.GAME_HEIGHT) {
+            || newY >= boardHeight) {
             throw new BoundaryExceededException(
                     "Movement out of boundary: (" + newX + ", " + newY + ")");
         }
@@ -0,0 +1,102 @@
+package game.events;
+
+import game.core.SpaceObject;
+
+/**
+ * Something that happened in a GameModel, described by primitive fields.
+ * Which fields are set depends on the type; unused fields are 0 or null.
+ *
+ * Instances are preallocated and reused by GameEventBus, so an event is only valid
+ * for the duration of GameEventListener.onEvent().
+ */
+public final class GameEvent {
+    private GameEventType type;
+    private int tick;
+    private int x;
+    private int y;
+    private int value;
+    private int secondValue;
+    private SpaceObject object;
+
+    GameEvent() {
+    }
+
+    void set(GameEventType type, int tick, int x, int y, int value, int secondValue,
+             SpaceObject object) {
+        this.type = type;
+        this.tick = tick;
+        this.x = x;
+        this.y = y;
+        this.value = value;
+        this.secondValue = secondValue;
+        this.object = object;
+    }
+
+    /**
+     * Returns what happened.
+     *
+     * @return the event type.
+     */
+    public GameEventType getType() {
+        return type;
+    }
+
+    /**
+     * Returns the tick of the last updateGame() call before the event.
+     *
+     * @return the tick.
+     */
+    public int getTick() {
+        return tick;
+    }
+
+    /**
+     * Returns the x-coordinate where the event happened.
+     *
+     * @return the x-coordinate.
+     */
+    public int getX() {
+        return x;
+    }
+
+    /**
+     * Returns the y-coordinate where the event happened.
+     *
+     * @return the y-coordinate.
+     */
+    public int getY() {
+        return y;
+    }
+
+    /**
+     * Returns the event's main value, e.g. the damage taken or the new level.
+     *
+     * @return the value.
+     */
+    public int getValue() {
+        return value;
+    }
+
+    /**
+     * Returns the event's second value, e.g. the new spawn rate.
+     *
+     * @return the second value.
+     */
+    public int getSecondValue() {
+        return secondValue;
+    }
+
+    /**
+     * Returns the object involved in the event, if any.
+     *
+     * @return the object, or null.
+     */
+    public SpaceObject getObject() {
+        return object;
+    }
+
+    @Override
+    public String toString() {
+        return type + "@" + tick + " (" + x + ", " + y + ") " + value + "/" + secondValue;
+    }
+}
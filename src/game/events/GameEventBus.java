@@ -0,0 +1,89 @@
+package game.events;
+
+import game.core.SpaceObject;
+import java.util.Arrays;
+
+/**
+ * Publishes GameEvents synchronously to a registry of listeners.
+ * Publishing allocates nothing: events come from a preallocated pool with one
+ * instance per nesting level (a listener may itself cause an event to be published),
+ * and the listener registry is a copy-on-write array.
+ *
+ * Listeners may subscribe or unsubscribe from any thread; events are delivered on
+ * the publishing thread, in subscription order.
+ */
+public class GameEventBus {
+    private volatile GameEventListener[] listeners = new GameEventListener[0];
+    private GameEvent[] pool = {new GameEvent()};
+    private int depth;
+
+    /**
+     * Registers a listener for every event published from now on.
+     *
+     * @param listener the listener to add.
+     */
+    public synchronized void subscribe(GameEventListener listener) {
+        GameEventListener[] grown = Arrays.copyOf(listeners, listeners.length + 1);
+        grown[listeners.length] = listener;
+        listeners = grown;
+    }
+
+    /**
+     * Removes a listener. Does nothing if it was not subscribed.
+     *
+     * @param listener the listener to remove.
+     */
+    public synchronized void unsubscribe(GameEventListener listener) {
+        for (int i = 0; i < listeners.length; i++) {
+            if (listeners[i] == listener) {
+                GameEventListener[] shrunk = new GameEventListener[listeners.length - 1];
+                System.arraycopy(listeners, 0, shrunk, 0, i);
+                System.arraycopy(listeners, i + 1, shrunk, i, shrunk.length - i);
+                listeners = shrunk;
+                return;
+            }
+        }
+    }
+
+    /**
+     * Returns whether any listener is subscribed.
+     *
+     * @return true if publishing an event would reach a listener.
+     */
+    public boolean hasListeners() {
+        return listeners.length > 0;
+    }
+
+    /**
+     * Delivers an event to every subscribed listener.
+     *
+     * @param type what happened.
+     * @param tick the current tick.
+     * @param x the x-coordinate where it happened.
+     * @param y the y-coordinate where it happened.
+     * @param value the event's main value.
+     * @param secondValue the event's second value.
+     * @param object the object involved, or null.
+     */
+    public void publish(GameEventType type, int tick, int x, int y, int value,
+                        int secondValue, SpaceObject object) {
+        GameEventListener[] current = listeners;
+        if (current.length == 0) {
+            return;
+        }
+        if (depth == pool.length) {
+            pool = Arrays.copyOf(pool, depth + 1);
+            pool[depth] = new GameEvent();
+        }
+        GameEvent event = pool[depth++];
+        event.set(type, tick, x, y, value, secondValue, object);
+        try {
+            for (GameEventListener listener : current) {
+                listener.onEvent(event);
+            }
+        } finally {
+            event.set(null, 0, 0, 0, 0, 0, null);
+            depth--;
+        }
+    }
+}
@@ -0,0 +1,15 @@
+package game.events;
+
+/**
+ * Receives events published on a GameEventBus.
+ */
+@FunctionalInterface
+public interface GameEventListener {
+    /**
+     * Handles an event. The event instance is reused by the bus once this method
+     * returns, so listeners must copy any fields they want to keep.
+     *
+     * @param event the event that happened.
+     */
+    void onEvent(GameEvent event);
+}
@@ -0,0 +1,22 @@
+package game.events;
+
+/**
+ * The kinds of things that can happen in a GameModel.
+ * Each constant documents which GameEvent fields it sets.
+ */
+public enum GameEventType {
+    /** The ship collected a power-up at (x, y); object is the power-up. */
+    POWER_UP_COLLECTED,
+    /** The ship was hit by an asteroid at (x, y); value is the damage taken. */
+    ASTEROID_HIT,
+    /** The ship was hit by an enemy at (x, y); value is the damage taken. */
+    ENEMY_HIT,
+    /** A bullet destroyed an enemy at (x, y); object is the enemy. */
+    ENEMY_DESTROYED,
+    /** The ship fired a bullet from (x, y). */
+    BULLET_FIRED,
+    /** The game reached a new level; value is the level, secondValue the spawn rate. */
+    LEVEL_UP,
+    /** A collision check found the ship destroyed; value is its health. */
+    GAME_OVER
+}
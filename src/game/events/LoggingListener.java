@@ -0,0 +1,46 @@
+package game.events;
+
+import game.utility.Logger;
+
+/**
+ * Writes the game's standard log messages for the events that have one.
+ */
+public class LoggingListener implements GameEventListener {
+    private final Logger logger;
+
+    /**
+     * Creates a listener writing to the given logger.
+     *
+     * @param logger the logger to write to.
+     */
+    public LoggingListener(Logger logger) {
+        this.logger = logger;
+    }
+
+    @Override
+    public void onEvent(GameEvent event) {
+        switch (event.getType()) {
+            case POWER_UP_COLLECTED:
+                logger.log("Power-up collected: {}", event.getObject().render());
+                break;
+            case ASTEROID_HIT:
+                logger.log("Hit by asteroid! Health reduced by {}.", event.getValue());
+                break;
+            case ENEMY_HIT:
+                logger.log("Hit by enemy! Health reduced by {}.", event.getValue());
+                break;
+            case BULLET_FIRED:
+                logger.log("Core.Bullet fired!");
+                break;
+            case LEVEL_UP:
+                logger.log("Level Up! Welcome to Level {}. Spawn rate increased to {}%.",
+                        event.getValue(), event.getSecondValue());
+                break;
+            case GAME_OVER:
+                logger.log("Game Over: Ship destroyed.");
+                break;
+            default:
+                break; // No standard message.
+        }
+    }
+}
@@ -0,0 +1,71 @@
+package game.metrics;
+
+/**
+ * Receives measurements from an instrumented GameModel and GameController.
+ * Calls are made on the thread that runs the tick (or renders), so implementations
+ * should be cheap and must not allocate on every call.
+ *
+ * Example: model.setMetrics(new TickMetrics())
+ */
+public interface GameMetrics {
+    /**
+     * The timed parts of a tick.
+     */
+    enum Phase {
+        /** A whole updateGame() call, including the phases it runs. */
+        TICK,
+        /** Moving every object in updateGame(). */
+        MOVE,
+        /** Removing off-screen objects in updateGame(). */
+        CULL,
+        /** spawnObjects(). */
+        SPAWN,
+        /** levelUp(). */
+        LEVEL_UP,
+        /** checkCollisions(). */
+        COLLISIONS,
+        /** GameController.renderGame(). */
+        RENDER
+    }
+
+    /**
+     * Records how long one run of a phase took.
+     *
+     * @param phase the phase.
+     * @param nanos the elapsed time in nanoseconds.
+     */
+    void recordPhase(Phase phase, long nanos);
+
+    /**
+     * Records objects added by spawnObjects() or fireBullet().
+     *
+     * @param count the number of objects added.
+     */
+    void recordSpawned(int count);
+
+    /**
+     * Records objects removed from the game.
+     *
+     * @param culled the number that left the board in updateGame().
+     * @param destroyed the number removed by checkCollisions().
+     */
+    void recordRemoved(int culled, int destroyed);
+
+    /**
+     * Records the collisions found by one checkCollisions() call: ship hits plus
+     * bullet and enemy pairs.
+     *
+     * @param count the number of collisions.
+     */
+    void recordCollisions(int count);
+
+    /**
+     * Records the live objects by type at the end of a tick.
+     *
+     * @param asteroids the number of asteroids.
+     * @param enemies the number of enemies.
+     * @param bullets the number of bullets.
+     * @param powerUps the number of power-ups.
+     */
+    void recordObjectCounts(int asteroids, int enemies, int bullets, int powerUps);
+}
@@ -0,0 +1,140 @@
+package game.metrics;
+
+/**
+ * The management interface of TickMetrics, for watching a running game with JConsole,
+ * VisualVM or any other JMX client. Latencies are reported in microseconds.
+ */
+public interface GameMetricsMXBean {
+    /**
+     * Returns the number of updateGame() calls recorded.
+     *
+     * @return the tick count.
+     */
+    long getTickCount();
+
+    /**
+     * Returns the mean updateGame() latency.
+     *
+     * @return the mean in microseconds.
+     */
+    double getTickMeanMicros();
+
+    /**
+     * Returns the median updateGame() latency.
+     *
+     * @return the 50th percentile in microseconds.
+     */
+    double getTickP50Micros();
+
+    /**
+     * Returns the 99th percentile of updateGame() latency.
+     *
+     * @return the 99th percentile in microseconds.
+     */
+    double getTickP99Micros();
+
+    /**
+     * Returns the 99.9th percentile of updateGame() latency.
+     *
+     * @return the 99.9th percentile in microseconds.
+     */
+    double getTickP999Micros();
+
+    /**
+     * Returns the slowest updateGame() call.
+     *
+     * @return the maximum in microseconds.
+     */
+    double getTickMaxMicros();
+
+    /**
+     * Returns the 99th percentile of renderGame() latency.
+     *
+     * @return the 99th percentile in microseconds.
+     */
+    double getRenderP99Micros();
+
+    /**
+     * Returns a latency percentile of any phase.
+     *
+     * @param phase the name of a GameMetrics.Phase, e.g. "COLLISIONS".
+     * @param percentile the percentile, from 0 to 100.
+     * @return the latency in microseconds.
+     */
+    double percentileMicros(String phase, double percentile);
+
+    /**
+     * Returns the number of asteroids at the end of the latest tick.
+     *
+     * @return the asteroid count.
+     */
+    int getAsteroids();
+
+    /**
+     * Returns the number of enemies at the end of the latest tick.
+     *
+     * @return the enemy count.
+     */
+    int getEnemies();
+
+    /**
+     * Returns the number of bullets at the end of the latest tick.
+     *
+     * @return the bullet count.
+     */
+    int getBullets();
+
+    /**
+     * Returns the number of power-ups at the end of the latest tick.
+     *
+     * @return the power-up count.
+     */
+    int getPowerUps();
+
+    /**
+     * Returns the number of objects spawned or fired.
+     *
+     * @return the spawned object count.
+     */
+    long getSpawnedTotal();
+
+    /**
+     * Returns the number of objects that left the board.
+     *
+     * @return the culled object count.
+     */
+    long getCulledTotal();
+
+    /**
+     * Returns the number of objects removed by collisions.
+     *
+     * @return the destroyed object count.
+     */
+    long getDestroyedTotal();
+
+    /**
+     * Returns the number of collisions found.
+     *
+     * @return the collision count.
+     */
+    long getCollisionsTotal();
+
+    /**
+     * Returns the average number of objects spawned per tick.
+     *
+     * @return the spawn rate.
+     */
+    double getSpawnedPerTick();
+
+    /**
+     * Returns the average number of objects culled or destroyed per tick.
+     *
+     * @return the removal rate.
+     */
+    double getRemovedPerTick();
+
+    /**
+     * Discards every measurement recorded so far.
+     */
+    void reset();
+}
@@ -0,0 +1,230 @@
+package game.metrics;
+
+import java.lang.management.ManagementFactory;
+import java.util.concurrent.atomic.AtomicLong;
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+/**
+ * The standard GameMetrics implementation: a LatencyHistogram per phase, running
+ * totals of spawns, removals and collisions, and the latest object counts by type.
+ * Recording never allocates. Everything can be read from other threads, directly or
+ * through JMX once register() has been called.
+ */
+public class TickMetrics implements GameMetrics, GameMetricsMXBean {
+    private static final Phase[] PHASES = Phase.values();
+
+    private final LatencyHistogram[] latencies = new LatencyHistogram[PHASES.length];
+    private final AtomicLong spawned = new AtomicLong();
+    private final AtomicLong culled = new AtomicLong();
+    private final AtomicLong destroyed = new AtomicLong();
+    private final AtomicLong collisions = new AtomicLong();
+    private volatile int asteroids;
+    private volatile int enemies;
+    private volatile int bullets;
+    private volatile int powerUps;
+    private ObjectName registeredName;
+
+    /**
+     * Creates empty metrics.
+     */
+    public TickMetrics() {
+        for (int i = 0; i < latencies.length; i++) {
+            latencies[i] = new LatencyHistogram();
+        }
+    }
+
+    @Override
+    public void recordPhase(Phase phase, long nanos) {
+        latencies[phase.ordinal()].record(nanos);
+    }
+
+    @Override
+    public void recordSpawned(int count) {
+        spawned.addAndGet(count);
+    }
+
+    @Override
+    public void recordRemoved(int culled, int destroyed) {
+        this.culled.addAndGet(culled);
+        this.destroyed.addAndGet(destroyed);
+    }
+
+    @Override
+    public void recordCollisions(int count) {
+        collisions.addAndGet(count);
+    }
+
+    @Override
+    public void recordObjectCounts(int asteroids, int enemies, int bullets, int powerUps) {
+        this.asteroids = asteroids;
+        this.enemies = enemies;
+        this.bullets = bullets;
+        this.powerUps = powerUps;
+    }
+
+    /**
+     * Returns the latency histogram of a phase, in nanoseconds.
+     *
+     * @param phase the phase.
+     * @return the phase's histogram.
+     */
+    public LatencyHistogram getLatency(Phase phase) {
+        return latencies[phase.ordinal()];
+    }
+
+    /**
+     * Registers these metrics with the platform MBean server under
+     * "game:type=GameMetrics,name=&lt;name&gt;", replacing any earlier registration.
+     *
+     * @param name distinguishes this game from others in the same JVM.
+     * @return the name the MBean was registered under.
+     * @throws JMException if the MBean cannot be registered.
+     */
+    public synchronized ObjectName register(String name) throws JMException {
+        unregister();
+        ObjectName objectName = new ObjectName("game:type=GameMetrics,name="
+                + ObjectName.quote(name));
+        MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+        if (server.isRegistered(objectName)) {
+            server.unregisterMBean(objectName);
+        }
+        server.registerMBean(this, objectName);
+        registeredName = objectName;
+        return objectName;
+    }
+
+    /**
+     * Removes the registration made by register(), if any.
+     *
+     * @throws JMException if the MBean cannot be unregistered.
+     */
+    public synchronized void unregister() throws JMException {
+        if (registeredName != null) {
+            ManagementFactory.getPlatformMBeanServer().unregisterMBean(registeredName);
+            registeredName = null;
+        }
+    }
+
+    @Override
+    public long getTickCount() {
+        return getLatency(Phase.TICK).getCount();
+    }
+
+    @Override
+    public double getTickMeanMicros() {
+        return getLatency(Phase.TICK).getMean() / 1000;
+    }
+
+    @Override
+    public double getTickP50Micros() {
+        return percentileMicros(Phase.TICK, 50);
+    }
+
+    @Override
+    public double getTickP99Micros() {
+        return percentileMicros(Phase.TICK, 99);
+    }
+
+    @Override
+    public double getTickP999Micros() {
+        return percentileMicros(Phase.TICK, 99.9);
+    }
+
+    @Override
+    public double getTickMaxMicros() {
+        return getLatency(Phase.TICK).getMax() / 1000.0;
+    }
+
+    @Override
+    public double getRenderP99Micros() {
+        return percentileMicros(Phase.RENDER, 99);
+    }
+
+    @Override
+    public double percentileMicros(String phase, double percentile) {
+        return percentileMicros(Phase.valueOf(phase.trim().toUpperCase()), percentile);
+    }
+
+    private double percentileMicros(Phase phase, double percentile) {
+        return getLatency(phase).getPercentile(percentile) / 1000.0;
+    }
+
+    @Override
+    public int getAsteroids() {
+        return asteroids;
+    }
+
+    @Override
+    public int getEnemies() {
+        return enemies;
+    }
+
+    @Override
+    public int getBullets() {
+        return bullets;
+    }
+
+    @Override
+    public int getPowerUps() {
+        return powerUps;
+    }
+
+    @Override
+    public long getSpawnedTotal() {
+        return spawned.get();
+    }
+
+    @Override
+    public long getCulledTotal() {
+        return culled.get();
+    }
+
+    @Override
+    public long getDestroyedTotal() {
+        return destroyed.get();
+    }
+
+    @Override
+    public long getCollisionsTotal() {
+        return collisions.get();
+    }
+
+    @Override
+    public double getSpawnedPerTick() {
+        long ticks = getTickCount();
+        return ticks == 0 ? 0 : (double) spawned.get() / ticks;
+    }
+
+    @Override
+    public double getRemovedPerTick() {
+        long ticks = getTickCount();
+        return ticks == 0 ? 0 : (double) (culled.get() + destroyed.get()) / ticks;
+    }
+
+    @Override
+    public void reset() {
+        for (LatencyHistogram latency : latencies) {
+            latency.reset();
+        }
+        spawned.set(0);
+        culled.set(0);
+        destroyed.set(0);
+        collisions.set(0);
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder out = new StringBuilder();
+        for (Phase phase : PHASES) {
+            out.append(phase).append(": ").append(getLatency(phase)).append('\n');
+        }
+        return out.append("objects: ").append(asteroids).append(" asteroids, ")
+                .append(enemies).append(" enemies, ").append(bullets).append(" bullets, ")
+                .append(powerUps).append(" power-ups; spawned ").append(spawned.get())
+                .append(", culled ").append(culled.get()).append(", destroyed ")
+                .append(destroyed.get()).append(", collisions ").append(collisions.get())
+                .toString();
+    }
+}
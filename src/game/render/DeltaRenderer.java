@@ -0,0 +1,17 @@
+package game.render;
+
+/**
+ * Implemented by a UI which can redraw only what changed since the previous frame.
+ * When the controller's UI also implements this interface, GameController.renderGame()
+ * passes it a FrameDelta each frame instead of calling ui.render() with every object.
+ */
+@FunctionalInterface
+public interface DeltaRenderer {
+    /**
+     * Draws the changes since the previous frame.
+     * The delta is reused for the next frame, so it must not be kept after returning.
+     *
+     * @param delta the objects spawned, moved and removed since the previous frame.
+     */
+    void renderDelta(FrameDelta delta);
+}
@@ -0,0 +1,251 @@
+package game.render;
+
+import game.core.EntityType;
+import game.core.Ship;
+import game.core.SpaceObject;
+import game.ui.ObjectGraphic;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * A copy of everything needed to draw one tick of the game: the stats, the ship and
+ * the type and position of every object. Once published by a FrameBuffer, a frame is
+ * not modified until the reader holding it acquires a newer one, so it can be read on
+ * a render thread while the simulation carries on.
+ *
+ * Positions are kept in primitive arrays; toSpaceObjects() builds SpaceObject copies
+ * for UIs which draw lists of objects. Objects of the built-in classes are rebuilt from
+ * their type tag; any other object, such as a DescendingEnemy, is also stored with the
+ * graphic it rendered when the frame was captured.
+ */
+public final class Frame {
+    private long sequence;
+    private int tick;
+    private int level;
+    private int score;
+    private int health;
+    private int shipX;
+    private int shipY;
+    private int count;
+    private int[] xs = new int[16];
+    private int[] ys = new int[16];
+    private byte[] types = new byte[16];
+    // The graphic of each object EntityType.create() cannot rebuild; null for the rest.
+    private ObjectGraphic[] graphics = new ObjectGraphic[16];
+    // Built on first use by the reader, and discarded when the frame is recaptured.
+    private List<SpaceObject> objects;
+
+    Frame() {
+    }
+
+    /**
+     * Copies the state to draw from the given objects and ship.
+     */
+    void capture(long sequence, int tick, int level, Ship ship, List<SpaceObject> source) {
+        this.sequence = sequence;
+        this.tick = tick;
+        this.level = level;
+        this.score = ship.getScore();
+        this.health = ship.getHealth();
+        this.shipX = ship.getX();
+        this.shipY = ship.getY();
+        int size = source.size();
+        if (xs.length < size) {
+            int capacity = Math.max(size, xs.length * 2);
+            xs = Arrays.copyOf(xs, capacity);
+            ys = Arrays.copyOf(ys, capacity);
+            types = Arrays.copyOf(types, capacity);
+            graphics = Arrays.copyOf(graphics, capacity);
+        }
+        for (int i = 0; i < size; i++) {
+            SpaceObject obj = source.get(i);
+            xs[i] = obj.getX();
+            ys[i] = obj.getY();
+            types[i] = EntityType.typeOf(obj);
+            graphics[i] = EntityType.isCreatable(obj) ? null : obj.render();
+        }
+        if (size < count) {
+            Arrays.fill(graphics, size, count, null);
+        }
+        this.count = size;
+        this.objects = null;
+    }
+
+    /**
+     * Returns the number of frames the buffer had published when this one was, from 1.
+     *
+     * @return the frame's sequence number.
+     */
+    public long getSequence() {
+        return sequence;
+    }
+
+    /**
+     * Returns the tick the frame was captured after.
+     *
+     * @return the tick.
+     */
+    public int getTick() {
+        return tick;
+    }
+
+    /**
+     * Returns the level at the time of the frame.
+     *
+     * @return the level.
+     */
+    public int getLevel() {
+        return level;
+    }
+
+    /**
+     * Returns the ship's score at the time of the frame.
+     *
+     * @return the score.
+     */
+    public int getScore() {
+        return score;
+    }
+
+    /**
+     * Returns the ship's health at the time of the frame.
+     *
+     * @return the health.
+     */
+    public int getHealth() {
+        return health;
+    }
+
+    /**
+     * Returns the ship's x-coordinate.
+     *
+     * @return the ship's x-coordinate.
+     */
+    public int getShipX() {
+        return shipX;
+    }
+
+    /**
+     * Returns the ship's y-coordinate.
+     *
+     * @return the ship's y-coordinate.
+     */
+    public int getShipY() {
+        return shipY;
+    }
+
+    /**
+     * Returns the number of objects in the frame, not counting the ship.
+     *
+     * @return the object count.
+     */
+    public int size() {
+        return count;
+    }
+
+    /**
+     * Returns the x-coordinate of an object.
+     *
+     * @param index the object's index, below size().
+     * @return the x-coordinate.
+     */
+    public int getX(int index) {
+        return xs[index];
+    }
+
+    /**
+     * Returns the y-coordinate of an object.
+     *
+     * @param index the object's index, below size().
+     * @return the y-coordinate.
+     */
+    public int getY(int index) {
+        return ys[index];
+    }
+
+    /**
+     * Returns the EntityType tag of an object.
+     *
+     * @param index the object's index, below size().
+     * @return the type tag.
+     */
+    public byte getType(int index) {
+        return types[index];
+    }
+
+    /**
+     * Returns the graphic an object rendered when the frame was captured, if it is not
+     * exactly one of the built-in classes.
+     *
+     * @param index the object's index, below size().
+     * @return the graphic, or null if the object is rebuilt from its type tag.
+     */
+    public ObjectGraphic getGraphic(int index) {
+        return graphics[index];
+    }
+
+    /**
+     * Returns copies of the frame's objects followed by a copy of the ship, as
+     * GameController.renderGame() passes them to the UI. The list is built once per
+     * frame, on the thread that acquired it.
+     *
+     * @return a read-only list of SpaceObjects.
+     */
+    public List<SpaceObject> toSpaceObjects() {
+        if (objects == null) {
+            List<SpaceObject> copies = new ArrayList<>(count + 1);
+            for (int i = 0; i < count; i++) {
+                if (graphics[i] != null || types[i] > EntityType.SHIELD_POWER_UP) {
+                    copies.add(new Copy(xs[i], ys[i], graphics[i]));
+                } else {
+                    copies.add(EntityType.create(types[i], xs[i], ys[i]));
+                }
+            }
+            copies.add(new Ship(shipX, shipY, health));
+            objects = Collections.unmodifiableList(copies);
+        }
+        return objects;
+    }
+
+    @Override
+    public String toString() {
+        return "Frame[#" + sequence + ", tick " + tick + ", " + count + " objects]";
+    }
+
+    /**
+     * A still copy of an object which is not one of the built-in classes, drawn with the
+     * graphic it had when captured.
+     */
+    private static final class Copy implements SpaceObject {
+        private final int x;
+        private final int y;
+        private final ObjectGraphic graphic;
+
+        private Copy(int x, int y, ObjectGraphic graphic) {
+            this.x = x;
+            this.y = y;
+            this.graphic = graphic;
+        }
+
+        @Override
+        public int getX() {
+            return x;
+        }
+
+        @Override
+        public int getY() {
+            return y;
+        }
+
+        @Override
+        public ObjectGraphic render() {
+            return graphic;
+        }
+
+        @Override
+        public void tick(int tick) {
+        }
+    }
+}
@@ -0,0 +1,66 @@
+package game.render;
+
+import game.core.Ship;
+import game.core.SpaceObject;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * A lock-free triple buffer of Frames between one simulation thread and one render
+ * thread.
+ *
+ * The writer always fills its own back frame and then swaps it with the shared middle
+ * slot; the reader swaps its front frame with the middle slot only when a newer frame
+ * is waiting there. Neither side ever waits for the other or sees a frame while it is
+ * being written: the writer may publish many frames between two reads (the reader
+ * simply gets the latest), and the reader may hold its frame for as long as it likes.
+ */
+public class FrameBuffer {
+    // Set in middle when the middle frame has not been acquired yet.
+    private static final int FRESH = 4;
+    private static final int INDEX = 3;
+
+    private final Frame[] frames = {new Frame(), new Frame(), new Frame()};
+    // Index of the frame in the shared slot, plus FRESH if it is newer than the front.
+    private final AtomicInteger middle = new AtomicInteger(1);
+    private int back = 0; // Only touched by the writer.
+    private int front = 2; // Only touched by the reader.
+    private long published; // Only touched by the writer.
+
+    /**
+     * Copies the given state into a new frame and makes it the latest.
+     * Must only be called from one thread at a time.
+     *
+     * @param tick the tick that has just been simulated.
+     * @param level the current level.
+     * @param ship the ship.
+     * @param objects the objects to draw, not including the ship.
+     */
+    public void publish(int tick, int level, Ship ship, List<SpaceObject> objects) {
+        frames[back].capture(++published, tick, level, ship, objects);
+        back = middle.getAndSet(back | FRESH) & INDEX;
+    }
+
+    /**
+     * Returns whether a frame newer than the last acquired one is waiting.
+     *
+     * @return true if acquire() would return a new frame.
+     */
+    public boolean hasNewFrame() {
+        return (middle.get() & FRESH) != 0;
+    }
+
+    /**
+     * Returns the latest published frame. The frame stays unchanged until the next
+     * call to acquire(). Must only be called from one thread at a time.
+     *
+     * @return the latest frame, or null if none has been published yet.
+     */
+    public Frame acquire() {
+        if (hasNewFrame()) {
+            front = middle.getAndSet(front) & INDEX;
+        }
+        Frame frame = frames[front];
+        return frame.getSequence() == 0 ? null : frame;
+    }
+}
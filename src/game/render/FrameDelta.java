@@ -0,0 +1,185 @@
+package game.render;
+
+import game.core.SpaceObject;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * The difference between two rendered frames: the objects that appeared, the objects
+ * that moved (with the cell they were last drawn in) and the objects that disappeared
+ * (with the cell they were last drawn in). Objects that did not move are only listed,
+ * as redrawn, when their cell is cleared.
+ *
+ * Apply a delta in two passes. First clear the cell of every removed object and the
+ * previous cell of every moved object. Clearing a cell erases whatever is drawn there,
+ * including objects which stayed in it, so then draw every moved, spawned and redrawn
+ * object at its current position. Drawing before every cell has been cleared could
+ * erase an object which moved into a cell another object left. If the frame's objects
+ * were reordered, an object can be listed as removed from its old cell and spawned in
+ * its new one.
+ *
+ * A FrameTracker reuses one FrameDelta for every frame, so its contents are only valid
+ * until the tracker's next update.
+ */
+public final class FrameDelta {
+    private final List<SpaceObject> spawned = new ArrayList<>();
+    private final List<SpaceObject> moved = new ArrayList<>();
+    private final List<SpaceObject> removed = new ArrayList<>();
+    private final List<SpaceObject> redrawn = new ArrayList<>();
+    private final List<SpaceObject> spawnedView = Collections.unmodifiableList(spawned);
+    private final List<SpaceObject> movedView = Collections.unmodifiableList(moved);
+    private final List<SpaceObject> removedView = Collections.unmodifiableList(removed);
+    private final List<SpaceObject> redrawnView = Collections.unmodifiableList(redrawn);
+    // Last drawn cells of moved.get(i) and removed.get(i).
+    private int[] movedFromX = new int[16];
+    private int[] movedFromY = new int[16];
+    private int[] removedX = new int[16];
+    private int[] removedY = new int[16];
+    private int frame;
+
+    FrameDelta() {
+    }
+
+    /**
+     * Returns the number of the frame this delta leads to, starting at 1.
+     * Frame 1 lists every object as spawned.
+     *
+     * @return the frame number.
+     */
+    public int getFrame() {
+        return frame;
+    }
+
+    /**
+     * Returns whether nothing changed since the previous frame.
+     *
+     * @return true if no object was spawned, moved or removed, so nothing is redrawn.
+     */
+    public boolean isEmpty() {
+        return spawned.isEmpty() && moved.isEmpty() && removed.isEmpty();
+    }
+
+    /**
+     * Returns the objects which were not in the previous frame.
+     *
+     * @return a read-only list of new objects, to draw at their current position.
+     */
+    public List<SpaceObject> getSpawned() {
+        return spawnedView;
+    }
+
+    /**
+     * Returns the objects whose position changed since the previous frame.
+     *
+     * @return a read-only list of moved objects, to draw at their current position.
+     */
+    public List<SpaceObject> getMoved() {
+        return movedView;
+    }
+
+    /**
+     * Returns the x-coordinate a moved object was last drawn at.
+     *
+     * @param index the object's index in getMoved().
+     * @return the previous x-coordinate.
+     */
+    public int getMovedFromX(int index) {
+        return movedFromX[index];
+    }
+
+    /**
+     * Returns the y-coordinate a moved object was last drawn at.
+     *
+     * @param index the object's index in getMoved().
+     * @return the previous y-coordinate.
+     */
+    public int getMovedFromY(int index) {
+        return movedFromY[index];
+    }
+
+    /**
+     * Returns the objects which were in the previous frame but are gone now.
+     *
+     * @return a read-only list of removed objects.
+     */
+    public List<SpaceObject> getRemoved() {
+        return removedView;
+    }
+
+    /**
+     * Returns the x-coordinate a removed object was last drawn at.
+     *
+     * @param index the object's index in getRemoved().
+     * @return the x-coordinate to clear.
+     */
+    public int getRemovedX(int index) {
+        return removedX[index];
+    }
+
+    /**
+     * Returns the y-coordinate a removed object was last drawn at.
+     *
+     * @param index the object's index in getRemoved().
+     * @return the y-coordinate to clear.
+     */
+    public int getRemovedY(int index) {
+        return removedY[index];
+    }
+
+    /**
+     * Returns the objects which did not move but share a cell the delta clears, i.e. the
+     * cell of a removed object or the previous cell of a moved one.
+     *
+     * @return a read-only list of objects to draw again at their current position.
+     */
+    public List<SpaceObject> getRedrawn() {
+        return redrawnView;
+    }
+
+    void clear(int frame) {
+        this.frame = frame;
+        spawned.clear();
+        moved.clear();
+        removed.clear();
+        redrawn.clear();
+    }
+
+    void addSpawned(SpaceObject obj) {
+        spawned.add(obj);
+    }
+
+    void addMoved(SpaceObject obj, int fromX, int fromY) {
+        int index = moved.size();
+        if (index == movedFromX.length) {
+            movedFromX = Arrays.copyOf(movedFromX, index * 2);
+            movedFromY = Arrays.copyOf(movedFromY, index * 2);
+        }
+        movedFromX[index] = fromX;
+        movedFromY[index] = fromY;
+        moved.add(obj);
+    }
+
+    void addRemoved(SpaceObject obj, int x, int y) {
+        int index = removed.size();
+        if (index == removedX.length) {
+            removedX = Arrays.copyOf(removedX, index * 2);
+            removedY = Arrays.copyOf(removedY, index * 2);
+        }
+        removedX[index] = x;
+        removedY[index] = y;
+        removed.add(obj);
+    }
+
+    void addRedrawn(SpaceObject obj) {
+        redrawn.add(obj);
+    }
+
+    @Override
+    public String toString() {
+        return "FrameDelta[frame " + frame + ", " + spawned.size() + " spawned, "
+                + moved.size() + " moved, " + removed.size() + " removed, "
+                + redrawn.size() + " redrawn]";
+    }
+}
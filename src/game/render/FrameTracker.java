@@ -0,0 +1,177 @@
+package game.render;
+
+import game.core.SpaceObject;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Remembers where each object was last drawn and turns every new frame into a
+ * FrameDelta. Objects are matched by identity.
+ *
+ * GameModel keeps its objects in a stable order: survivors keep their relative order
+ * and new objects are appended. So instead of hashing every object, the tracker walks
+ * the new frame and the previous one side by side, which makes an update a single
+ * allocation-free pass. Objects that do not line up within a short lookahead are
+ * reported as removed from their old cell and spawned in their new one, so any order
+ * still produces a correct delta, just a less compact one.
+ *
+ * Once the frame has been walked, the objects which stayed put are looked up among the
+ * cells the delta clears, so the ones sharing such a cell are listed to be redrawn.
+ */
+public class FrameTracker {
+    // How far ahead in the previous frame to look for an object before treating it as new.
+    private static final int LOOKAHEAD = 64;
+
+    private final FrameDelta delta = new FrameDelta();
+    private SpaceObject[] drawn = new SpaceObject[16];
+    private int[] drawnX = new int[16];
+    private int[] drawnY = new int[16];
+    private int drawnCount;
+    // Filled during an update, then swapped with the drawn arrays.
+    private SpaceObject[] next = new SpaceObject[16];
+    private int[] nextX = new int[16];
+    private int[] nextY = new int[16];
+    private int nextCount;
+    // Indices into next of the objects which did not move since the previous frame.
+    private int[] still = new int[16];
+    private int stillCount;
+    // Sorted positions (see key()) of the cells the delta clears.
+    private long[] cleared = new long[16];
+    // Index of the first entry of the previous frame not yet matched or removed.
+    private int cursor;
+    private int frame;
+
+    /**
+     * Compares the given frame with the previous one.
+     *
+     * @param objects the objects in the new frame.
+     * @param ship an extra object drawn last in the frame, such as the ship, or null.
+     * @return the changes since the previous frame; reused by the next call.
+     */
+    public FrameDelta update(List<SpaceObject> objects, SpaceObject ship) {
+        frame++;
+        delta.clear(frame);
+        int count = objects.size() + (ship == null ? 0 : 1);
+        if (next.length < count) {
+            int capacity = Math.max(count, next.length * 2);
+            next = new SpaceObject[capacity];
+            nextX = new int[capacity];
+            nextY = new int[capacity];
+        }
+        nextCount = 0;
+        stillCount = 0;
+        cursor = 0;
+        for (int i = 0; i < objects.size(); i++) {
+            track(objects.get(i));
+        }
+        if (ship != null) {
+            track(ship);
+        }
+        removeUpTo(drawnCount);
+        findRedrawn();
+        // The old frame's references are no longer needed.
+        Arrays.fill(drawn, 0, drawnCount, null);
+
+        SpaceObject[] objectsSwap = drawn;
+        drawn = next;
+        next = objectsSwap;
+        int[] swap = drawnX;
+        drawnX = nextX;
+        nextX = swap;
+        swap = drawnY;
+        drawnY = nextY;
+        nextY = swap;
+        drawnCount = nextCount;
+        return delta;
+    }
+
+    /**
+     * Forgets every drawn object, so the next update lists all objects as spawned.
+     * Use this after the UI has cleared its display, e.g. when a snapshot is restored.
+     */
+    public void reset() {
+        Arrays.fill(drawn, 0, drawnCount, null);
+        drawnCount = 0;
+    }
+
+    /**
+     * Returns the number of objects drawn in the latest frame.
+     *
+     * @return the tracked object count.
+     */
+    public int size() {
+        return drawnCount;
+    }
+
+    private void track(SpaceObject obj) {
+        int x = obj.getX();
+        int y = obj.getY();
+        int limit = Math.min(drawnCount, cursor + LOOKAHEAD);
+        int match = cursor;
+        while (match < limit && drawn[match] != obj) {
+            match++;
+        }
+        if (match == limit) {
+            delta.addSpawned(obj);
+        } else {
+            // Everything skipped over has left the frame.
+            removeUpTo(match);
+            if (drawnX[match] != x || drawnY[match] != y) {
+                delta.addMoved(obj, drawnX[match], drawnY[match]);
+            } else {
+                if (stillCount == still.length) {
+                    still = Arrays.copyOf(still, stillCount * 2);
+                }
+                still[stillCount++] = nextCount;
+            }
+            cursor = match + 1;
+        }
+        next[nextCount] = obj;
+        nextX[nextCount] = x;
+        nextY[nextCount] = y;
+        nextCount++;
+    }
+
+    private void removeUpTo(int end) {
+        for (int i = cursor; i < end; i++) {
+            delta.addRemoved(drawn[i], drawnX[i], drawnY[i]);
+        }
+        cursor = Math.max(cursor, end);
+    }
+
+    /**
+     * Lists the objects which stayed in a cell the delta clears, as clearing the cell
+     * erases them too.
+     */
+    private void findRedrawn() {
+        int removed = delta.getRemoved().size();
+        int moved = delta.getMoved().size();
+        if (stillCount == 0 || removed + moved == 0) {
+            return;
+        }
+        if (cleared.length < removed + moved) {
+            cleared = new long[Math.max(removed + moved, cleared.length * 2)];
+        }
+        int count = 0;
+        for (int i = 0; i < removed; i++) {
+            cleared[count++] = key(delta.getRemovedX(i), delta.getRemovedY(i));
+        }
+        for (int i = 0; i < moved; i++) {
+            cleared[count++] = key(delta.getMovedFromX(i), delta.getMovedFromY(i));
+        }
+        Arrays.sort(cleared, 0, count);
+        for (int k = 0; k < stillCount; k++) {
+            int i = still[k];
+            if (Arrays.binarySearch(cleared, 0, count, key(nextX[i], nextY[i])) >= 0) {
+                delta.addRedrawn(next[i]);
+            }
+        }
+    }
+
+    /**
+     * Packs a position into one sortable long.
+     */
+    private static long key(int x, int y) {
+        return ((long) x << 32) | (y & 0xFFFFFFFFL);
+    }
+}
@@ -0,0 +1,123 @@
+package game.render;
+
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * Draws the latest frame of a FrameBuffer at a fixed rate on its own thread, so
+ * rendering runs in parallel with the simulation instead of between its steps.
+ *
+ * If the renderer throws, the thread stops and the exception is passed to the error
+ * handler, rather than being swallowed by the scheduler.
+ */
+public class RenderThread {
+    private final FrameBuffer frames;
+    private final Consumer<Frame> renderer;
+    private final long renderNanos;
+    private ScheduledExecutorService scheduler;
+    private volatile long renders;
+    private Consumer<Throwable> errorHandler;
+    private volatile Throwable failure;
+
+    /**
+     * Creates a render thread; call start() to begin drawing.
+     *
+     * @param frames the buffer the simulation publishes frames to.
+     * @param renderer draws a frame, e.g. GameController::renderFrame.
+     * @param renderMillis the time between rendered frames in milliseconds.
+     * @throws IllegalArgumentException if the interval is not positive.
+     */
+    public RenderThread(FrameBuffer frames, Consumer<Frame> renderer, long renderMillis) {
+        if (renderMillis <= 0) {
+            throw new IllegalArgumentException("Interval must be positive: render "
+                    + renderMillis + "ms");
+        }
+        this.frames = frames;
+        this.renderer = renderer;
+        this.renderNanos = TimeUnit.MILLISECONDS.toNanos(renderMillis);
+    }
+
+    /**
+     * Sets the handler called on the render thread with the exception that stopped it.
+     * By default the exception goes to the thread's uncaught exception handler, which
+     * prints it to standard error.
+     *
+     * @param handler the handler, or null for the default.
+     */
+    public synchronized void setErrorHandler(Consumer<Throwable> handler) {
+        this.errorHandler = handler;
+    }
+
+    /**
+     * Returns the exception that stopped the thread, if any.
+     *
+     * @return the exception, or null if rendering has not failed since it was started.
+     */
+    public Throwable getFailure() {
+        return failure;
+    }
+
+    /**
+     * Starts drawing frames. Does nothing if already running.
+     */
+    public synchronized void start() {
+        if (scheduler != null) {
+            return;
+        }
+        failure = null;
+        scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "game-render");
+            thread.setDaemon(true);
+            return thread;
+        });
+        scheduler.scheduleAtFixedRate(this::render, 0, renderNanos, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * Stops drawing frames.
+     */
+    public synchronized void stop() {
+        if (scheduler != null) {
+            scheduler.shutdownNow();
+            scheduler = null;
+        }
+    }
+
+    /**
+     * Returns the number of frames drawn so far.
+     *
+     * @return the number of rendered frames.
+     */
+    public long getRenderCount() {
+        return renders;
+    }
+
+    /**
+     * Draws the latest frame, stopping if the renderer throws. Left to the scheduler, an
+     * exception would cancel rendering without a trace.
+     */
+    private void render() {
+        try {
+            Frame frame = frames.acquire();
+            if (frame != null) {
+                renderer.accept(frame);
+                renders++;
+            }
+        } catch (RuntimeException | Error e) {
+            failure = e;
+            Consumer<Throwable> handler;
+            synchronized (this) {
+                handler = errorHandler;
+                stop();
+            }
+            if (handler != null) {
+                handler.accept(e);
+            } else {
+                Thread thread = Thread.currentThread();
+                thread.getUncaughtExceptionHandler().uncaughtException(thread, e);
+            }
+        }
+    }
+}
@@ -0,0 +1,396 @@
+package game.replay;
+
+import game.GameModel;
+import game.GameSnapshot;
+import game.core.SpaceObject;
+import game.core.Ship;
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * A recorded game session: the random seed, the state the session started from, the
+ * player's inputs stamped with the number of ticks that had run when they were pressed,
+ * and a hash of the model state every hashInterval ticks. Together with a fresh model
+ * this is enough to re-simulate the session exactly, see ReplayPlayer.
+ *
+ * Replays are immutable and are stored in a compact binary layout:
+ * a header (magic, version, step mode, seed, hash interval, first tick, tick count),
+ * the initial state as a GameSnapshot (empty if none was captured), then
+ * delta-encoded inputs, tick jumps and state hashes. Version 1 files, which have no
+ * initial state, can still be read.
+ */
+public final class Replay {
+    /**
+     * How the recorded session advanced the model on each tick.
+     */
+    public enum StepMode {
+        /** GameController.onTick(): updateGame, checkCollisions, spawnObjects, levelUp. */
+        CONTROLLER,
+        /** A single updateGame(tick) call, as in GameLoop and HeadlessRunner. */
+        UPDATE_ONLY
+    }
+
+    private static final int MAGIC = 0x52504C59; // "RPLY"
+    private static final int VERSION = 2;
+    private static final String KEYS = "WASDFP";
+
+    private final StepMode mode;
+    private final int seed;
+    private final int hashInterval;
+    private final int firstTick;
+    private final int tickCount;
+    // Null when the session started from a fresh model.
+    private final GameSnapshot initialState;
+    private final int[] inputSteps;
+    private final byte[] inputKeys;
+    private final int[] jumpSteps;
+    private final int[] jumpTicks;
+    private final long[] hashes;
+
+    Replay(StepMode mode, int seed, int hashInterval, int firstTick, int tickCount,
+           GameSnapshot initialState, int[] inputSteps, byte[] inputKeys, int[] jumpSteps,
+           int[] jumpTicks, long[] hashes) {
+        this.mode = mode;
+        this.seed = seed;
+        this.hashInterval = hashInterval;
+        this.firstTick = firstTick;
+        this.tickCount = tickCount;
+        this.initialState = initialState;
+        this.inputSteps = inputSteps;
+        this.inputKeys = inputKeys;
+        this.jumpSteps = jumpSteps;
+        this.jumpTicks = jumpTicks;
+        this.hashes = hashes;
+    }
+
+    /**
+     * Returns how the session advanced the model on each tick.
+     *
+     * @return the step mode.
+     */
+    public StepMode getMode() {
+        return mode;
+    }
+
+    /**
+     * Returns the seed the model's Random was set to before the first tick.
+     *
+     * @return the seed.
+     */
+    public int getSeed() {
+        return seed;
+    }
+
+    /**
+     * Returns the number of ticks between recorded state hashes.
+     *
+     * @return the hash interval.
+     */
+    public int getHashInterval() {
+        return hashInterval;
+    }
+
+    /**
+     * Returns the number of ticks recorded.
+     *
+     * @return the tick count.
+     */
+    public int getTickCount() {
+        return tickCount;
+    }
+
+    /**
+     * Returns the number of player inputs recorded.
+     *
+     * @return the input count.
+     */
+    public int getInputCount() {
+        return inputKeys.length;
+    }
+
+    /**
+     * Returns the number of state hashes recorded.
+     *
+     * @return the hash count.
+     */
+    public int getHashCount() {
+        return hashes.length;
+    }
+
+    /**
+     * Returns whether the replay holds the state the session started from. Sessions
+     * without one started from a fresh model.
+     *
+     * @return true if there is an initial state.
+     */
+    public boolean hasInitialState() {
+        return initialState != null;
+    }
+
+    int getFirstTick() {
+        return firstTick;
+    }
+
+    GameSnapshot getInitialState() {
+        return initialState;
+    }
+
+    int getInputStep(int index) {
+        return inputSteps[index];
+    }
+
+    String getInputKey(int index) {
+        return String.valueOf(KEYS.charAt(inputKeys[index]));
+    }
+
+    int getJumpCount() {
+        return jumpSteps.length;
+    }
+
+    int getJumpStep(int index) {
+        return jumpSteps[index];
+    }
+
+    int getJumpTick(int index) {
+        return jumpTicks[index];
+    }
+
+    long getHash(int index) {
+        return hashes[index];
+    }
+
+    /**
+     * Returns the key code stored for an input, or -1 if it is not a game key.
+     *
+     * @param input the player input, any case.
+     * @return the index of the key in "WASDFP", or -1.
+     */
+    static int keyCode(String input) {
+        if (input == null || input.length() != 1) {
+            return -1;
+        }
+        return KEYS.indexOf(Character.toUpperCase(input.charAt(0)));
+    }
+
+    /**
+     * Returns a 64-bit hash of everything that determines how the model evolves:
+     * the ship's position, health and score, the level, and the type and position of
+     * every tracked object in order. Equal states always hash equally.
+     *
+     * @param model the model to hash.
+     * @return the state hash.
+     */
+    public static long hash(GameModel model) {
+        Ship ship = model.getShip();
+        long hash = 0xcbf29ce484222325L; // FNV-1a offset basis
+        hash = mix(hash, ship.getX());
+        hash = mix(hash, ship.getY());
+        hash = mix(hash, ship.getHealth());
+        hash = mix(hash, ship.getScore());
+        hash = mix(hash, model.getLevel());
+        List<SpaceObject> objects = model.getSpaceObjects();
+        hash = mix(hash, objects.size());
+        for (int i = 0; i < objects.size(); i++) {
+            SpaceObject obj = objects.get(i);
+            hash = mix(hash, obj.getClass().getName().hashCode());
+            hash = mix(hash, obj.getX());
+            hash = mix(hash, obj.getY());
+        }
+        return hash;
+    }
+
+    private static long mix(long hash, int value) {
+        return (hash ^ value) * 0x100000001b3L; // FNV-1a prime
+    }
+
+    /**
+     * Writes this replay to a file, replacing any existing file.
+     *
+     * @param path the file to write.
+     * @throws IOException if the file cannot be written.
+     */
+    public void save(Path path) throws IOException {
+        try (OutputStream out = new BufferedOutputStream(Files.newOutputStream(path))) {
+            write(out);
+        }
+    }
+
+    /**
+     * Reads a replay from a file.
+     *
+     * @param path the file to read.
+     * @return the replay.
+     * @throws IOException if the file cannot be read or is not a valid replay.
+     */
+    public static Replay load(Path path) throws IOException {
+        try (InputStream in = new BufferedInputStream(Files.newInputStream(path))) {
+            return read(in);
+        }
+    }
+
+    /**
+     * Writes this replay in its binary layout. The stream is not closed.
+     *
+     * @param stream the stream to write to.
+     * @throws IOException if writing fails.
+     */
+    public void write(OutputStream stream) throws IOException {
+        DataOutputStream out = new DataOutputStream(stream);
+        out.writeInt(MAGIC);
+        out.writeByte(VERSION);
+        out.writeByte(mode.ordinal());
+        out.writeInt(seed);
+        out.writeInt(hashInterval);
+        out.writeInt(firstTick);
+        out.writeInt(tickCount);
+        if (initialState == null) {
+            writeVarInt(out, 0);
+        } else {
+            ByteBuffer buffer = initialState.toByteBuffer();
+            byte[] state = new byte[buffer.remaining()];
+            buffer.get(state); // The buffer is read-only, so it has no accessible array.
+            writeVarInt(out, state.length);
+            out.write(state);
+        }
+        writeVarInt(out, inputKeys.length);
+        int previous = 0;
+        for (int i = 0; i < inputKeys.length; i++) {
+            writeVarInt(out, inputSteps[i] - previous);
+            out.writeByte(inputKeys[i]);
+            previous = inputSteps[i];
+        }
+        writeVarInt(out, jumpSteps.length);
+        previous = 0;
+        for (int i = 0; i < jumpSteps.length; i++) {
+            writeVarInt(out, jumpSteps[i] - previous);
+            out.writeInt(jumpTicks[i]);
+            previous = jumpSteps[i];
+        }
+        writeVarInt(out, hashes.length);
+        for (long hash : hashes) {
+            out.writeLong(hash);
+        }
+        out.flush();
+    }
+
+    /**
+     * Reads a replay written by write(). The stream is not closed.
+     *
+     * @param stream the stream to read from.
+     * @return the replay.
+     * @throws IOException if reading fails or the data is not a valid replay.
+     */
+    public static Replay read(InputStream stream) throws IOException {
+        DataInputStream in = new DataInputStream(stream);
+        if (in.readInt() != MAGIC) {
+            throw new IOException("Not a replay file");
+        }
+        int version = in.readUnsignedByte();
+        if (version != 1 && version != VERSION) {
+            throw new IOException("Unsupported replay version " + version);
+        }
+        int modeIndex = in.readUnsignedByte();
+        if (modeIndex >= StepMode.values().length) {
+            throw new IOException("Unknown step mode " + modeIndex);
+        }
+        StepMode mode = StepMode.values()[modeIndex];
+        int seed = in.readInt();
+        int hashInterval = in.readInt();
+        int firstTick = in.readInt();
+        int tickCount = in.readInt();
+        GameSnapshot initialState = null;
+        int stateBytes = version == 1 ? 0 : readVarInt(in);
+        if (stateBytes > 0) {
+            byte[] state = new byte[stateBytes];
+            in.readFully(state);
+            initialState = GameSnapshot.fromByteBuffer(ByteBuffer.wrap(state));
+        }
+        int inputs = readVarInt(in);
+        int[] inputSteps = new int[inputs];
+        byte[] inputKeys = new byte[inputs];
+        int step = 0;
+        for (int i = 0; i < inputs; i++) {
+            step += readVarInt(in);
+            inputSteps[i] = step;
+            inputKeys[i] = in.readByte();
+            if (inputKeys[i] < 0 || inputKeys[i] >= KEYS.length()) {
+                throw new IOException("Unknown input key " + inputKeys[i]);
+            }
+        }
+        int jumps = readVarInt(in);
+        int[] jumpSteps = new int[jumps];
+        int[] jumpTicks = new int[jumps];
+        step = 0;
+        for (int i = 0; i < jumps; i++) {
+            step += readVarInt(in);
+            jumpSteps[i] = step;
+            jumpTicks[i] = in.readInt();
+        }
+        long[] hashes = new long[readVarInt(in)];
+        for (int i = 0; i < hashes.length; i++) {
+            hashes[i] = in.readLong();
+        }
+        return new Replay(mode, seed, hashInterval, firstTick, tickCount, initialState,
+                inputSteps, inputKeys, jumpSteps, jumpTicks, hashes);
+    }
+
+    private static void writeVarInt(DataOutputStream out, int value) throws IOException {
+        while ((value & ~0x7F) != 0) {
+            out.writeByte((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        out.writeByte(value);
+    }
+
+    private static int readVarInt(DataInputStream in) throws IOException {
+        int value = 0;
+        for (int shift = 0; shift < 32; shift += 7) {
+            int b = in.readUnsignedByte();
+            value |= (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return value;
+            }
+        }
+        throw new IOException("Malformed variable-length integer");
+    }
+
+    @Override
+    public String toString() {
+        return "Replay[" + mode + ", seed " + seed + ", " + tickCount + " ticks, "
+                + inputKeys.length + " inputs, " + hashes.length + " hashes every "
+                + hashInterval + " ticks]";
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (!(other instanceof Replay)) {
+            return false;
+        }
+        Replay that = (Replay) other;
+        return mode == that.mode && seed == that.seed && hashInterval == that.hashInterval
+                && firstTick == that.firstTick && tickCount == that.tickCount
+                && (initialState == null ? that.initialState == null
+                        : that.initialState != null && initialState.toByteBuffer()
+                                .equals(that.initialState.toByteBuffer()))
+                && Arrays.equals(inputSteps, that.inputSteps)
+                && Arrays.equals(inputKeys, that.inputKeys)
+                && Arrays.equals(jumpSteps, that.jumpSteps)
+                && Arrays.equals(jumpTicks, that.jumpTicks)
+                && Arrays.equals(hashes, that.hashes);
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * Arrays.hashCode(hashes) + seed;
+    }
+}
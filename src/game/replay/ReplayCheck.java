@@ -0,0 +1,60 @@
+package game.replay;
+
+import game.GameController;
+import game.GameModel;
+import game.ui.UI;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.lang.reflect.Proxy;
+
+/**
+ * Checks that a session recorded through GameController, started with startGame(),
+ * replays consistently: the recording is written and read back, then played with
+ * ReplayPlayer and its state hashes compared. Exits with status 1 on a divergence.
+ *
+ * Run with: java game.replay.ReplayCheck
+ */
+public class ReplayCheck {
+    private static final int SEED = 42;
+    private static final int HASH_INTERVAL = 10;
+    private static final int TICKS = 500;
+
+    /**
+     * Records a session with a mix of inputs, replays it and prints the outcome.
+     *
+     * @param args unused.
+     * @throws IOException never, the replay is written to memory.
+     */
+    public static void main(String[] args) throws IOException {
+        GameController controller = new GameController(silentUi(),
+                new GameModel(message -> { }));
+        ReplayRecorder recorder = controller.startRecording(SEED, HASH_INTERVAL);
+        controller.startGame();
+        String keys = "FAFDFWFS";
+        for (int tick = 1; tick <= TICKS; tick++) {
+            if (tick % 3 == 0) {
+                controller.handlePlayerInput(String.valueOf(keys.charAt(tick % keys.length())));
+            }
+            controller.onTick(tick);
+        }
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        recorder.toReplay().write(out);
+        Replay replay = Replay.read(new ByteArrayInputStream(out.toByteArray()));
+        ReplayPlayer.Result result = new ReplayPlayer().play(replay);
+        boolean same = Replay.hash(result.getModel()) == Replay.hash(controller.getModel());
+        System.out.println(replay + ": " + result + (same ? "" : ", final state differs"));
+        if (!result.isConsistent() || !same) {
+            System.out.println("FAILED: the recorded session does not replay");
+            System.exit(1);
+        }
+    }
+
+    /**
+     * Returns a UI whose every method does nothing.
+     */
+    private static UI silentUi() {
+        return (UI) Proxy.newProxyInstance(UI.class.getClassLoader(),
+                new Class<?>[] {UI.class}, (proxy, method, args) -> null);
+    }
+}
@@ -0,0 +1,152 @@
+package game.replay;
+
+import game.GameModel;
+import game.HeadlessRunner;
+import java.util.function.Supplier;
+
+/**
+ * Re-simulates recorded sessions headless, as fast as the CPU allows, and checks the
+ * model state against the recorded hashes.
+ */
+public class ReplayPlayer {
+    private final Supplier<GameModel> models;
+
+    /**
+     * Creates a player which builds models with the default configuration and
+     * discards their log output.
+     */
+    public ReplayPlayer() {
+        this(() -> new GameModel(message -> { }));
+    }
+
+    /**
+     * Creates a player which builds each model with the given supplier. The models must
+     * be configured the same way as the one that was recorded.
+     *
+     * @param models creates a fresh model for each playback.
+     */
+    public ReplayPlayer(Supplier<GameModel> models) {
+        this.models = models;
+    }
+
+    /**
+     * Plays a replay to the end, or until the state first diverges from a recorded hash.
+     * A replay with an initial state is played on a fresh model restored to that state.
+     *
+     * @param replay the session to re-simulate.
+     * @return the outcome, including the final model.
+     */
+    public Result play(Replay replay) {
+        long start = System.nanoTime();
+        GameModel model = models.get();
+        model.setRandomSeed(replay.getSeed());
+        if (replay.hasInitialState()) {
+            replay.getInitialState().restore(model);
+        }
+        int input = 0;
+        int jump = 0;
+        int tick = replay.getFirstTick();
+        int step = 0;
+        int mismatch = -1;
+        while (step < replay.getTickCount()) {
+            input = applyInputs(replay, model, input, step);
+            if (jump < replay.getJumpCount() && replay.getJumpStep(jump) == step) {
+                tick = replay.getJumpTick(jump++);
+            }
+            model.updateGame(tick);
+            if (replay.getMode() == Replay.StepMode.CONTROLLER) {
+                model.checkCollisions();
+                model.spawnObjects();
+                model.levelUp();
+            }
+            tick++;
+            step++;
+            if (step % replay.getHashInterval() == 0
+                    && Replay.hash(model) != replay.getHash(step / replay.getHashInterval() - 1)) {
+                mismatch = step;
+                break;
+            }
+        }
+        if (mismatch < 0) {
+            applyInputs(replay, model, input, step); // Inputs made after the last tick.
+        }
+        return new Result(model, step, mismatch, System.nanoTime() - start);
+    }
+
+    private static int applyInputs(Replay replay, GameModel model, int input, int step) {
+        while (input < replay.getInputCount() && replay.getInputStep(input) == step) {
+            HeadlessRunner.applyInput(model, replay.getInputKey(input));
+            input++;
+        }
+        return input;
+    }
+
+    /**
+     * The outcome of a playback.
+     */
+    public static class Result {
+        private final GameModel model;
+        private final int ticks;
+        private final int mismatchTick;
+        private final long nanos;
+
+        private Result(GameModel model, int ticks, int mismatchTick, long nanos) {
+            this.model = model;
+            this.ticks = ticks;
+            this.mismatchTick = mismatchTick;
+            this.nanos = nanos;
+        }
+
+        /**
+         * Returns whether every recorded state hash matched.
+         *
+         * @return true if the playback reproduced the recorded session.
+         */
+        public boolean isConsistent() {
+            return mismatchTick < 0;
+        }
+
+        /**
+         * Returns the number of ticks after which the state first differed from the
+         * recording, which is within one hash interval of the actual divergence.
+         *
+         * @return the tick count at the first mismatch, or -1 if consistent.
+         */
+        public int getMismatchTick() {
+            return mismatchTick;
+        }
+
+        /**
+         * Returns the number of ticks re-simulated.
+         *
+         * @return the tick count.
+         */
+        public int getTicks() {
+            return ticks;
+        }
+
+        /**
+         * Returns how long the playback took.
+         *
+         * @return the duration in nanoseconds.
+         */
+        public long getNanos() {
+            return nanos;
+        }
+
+        /**
+         * Returns the model as it was when playback stopped.
+         *
+         * @return the re-simulated model.
+         */
+        public GameModel getModel() {
+            return model;
+        }
+
+        @Override
+        public String toString() {
+            return (isConsistent() ? "consistent" : "diverged by tick " + mismatchTick)
+                    + " after " + ticks + " ticks in " + nanos / 1_000_000 + " ms";
+        }
+    }
+}
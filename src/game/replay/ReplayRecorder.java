@@ -0,0 +1,127 @@
+package game.replay;
+
+import game.GameModel;
+import game.GameSnapshot;
+import java.util.Arrays;
+
+/**
+ * Records a session as it is played, for later playback with ReplayPlayer.
+ * The owner reports every player input with onInput() and every completed tick with
+ * onTick(); the recorder stamps inputs with the number of ticks run so far and
+ * hashes the model state every hashInterval ticks.
+ *
+ * The model must be seeded with the recorder's seed before the first tick. If it
+ * already holds objects, e.g. those GameController.startGame() adds, the owner calls
+ * begin() before reporting the first input or tick so the replay starts from them.
+ */
+public class ReplayRecorder {
+    private final Replay.StepMode mode;
+    private final int seed;
+    private final int hashInterval;
+    private int firstTick;
+    private int lastTick;
+    private int tickCount;
+    private GameSnapshot initialState;
+    private boolean begun;
+    private int[] inputSteps = new int[64];
+    private byte[] inputKeys = new byte[64];
+    private int inputCount;
+    private int[] jumpSteps = new int[4];
+    private int[] jumpTicks = new int[4];
+    private int jumpCount;
+    private long[] hashes = new long[16];
+    private int hashCount;
+
+    /**
+     * Creates a recorder for a session.
+     *
+     * @param mode how the session advances the model on each tick.
+     * @param seed the seed the model was given with setRandomSeed().
+     * @param hashInterval the number of ticks between state hashes, at least 1.
+     * @throws IllegalArgumentException if hashInterval is less than 1.
+     */
+    public ReplayRecorder(Replay.StepMode mode, int seed, int hashInterval) {
+        if (hashInterval < 1) {
+            throw new IllegalArgumentException("Hash interval must be positive: " + hashInterval);
+        }
+        this.mode = mode;
+        this.seed = seed;
+        this.hashInterval = hashInterval;
+    }
+
+    /**
+     * Captures the state the session starts from, so playback restores it instead of
+     * starting from a fresh model. Only the first call has an effect, and only before
+     * any input or tick has been recorded.
+     *
+     * @param model the model, before its first recorded input or tick.
+     * @throws IllegalArgumentException if the model holds objects a GameSnapshot
+     *                                  cannot capture.
+     */
+    public synchronized void begin(GameModel model) {
+        if (!begun && inputCount == 0 && tickCount == 0) {
+            initialState = GameSnapshot.capture(model);
+        }
+        begun = true;
+    }
+
+    /**
+     * Records a player input applied before the next tick.
+     * Inputs other than W, A, S, D, F and P (any case) have no effect and are ignored.
+     *
+     * @param input the player input.
+     */
+    public synchronized void onInput(String input) {
+        int key = Replay.keyCode(input);
+        if (key < 0) {
+            return;
+        }
+        if (inputCount == inputKeys.length) {
+            inputSteps = Arrays.copyOf(inputSteps, inputCount * 2);
+            inputKeys = Arrays.copyOf(inputKeys, inputCount * 2);
+        }
+        inputSteps[inputCount] = tickCount;
+        inputKeys[inputCount] = (byte) key;
+        inputCount++;
+    }
+
+    /**
+     * Records a completed tick, hashing the model if a hash is due.
+     *
+     * @param tick the tick value the model was advanced with.
+     * @param model the model after the tick.
+     */
+    public synchronized void onTick(int tick, GameModel model) {
+        if (tickCount == 0) {
+            firstTick = tick;
+        } else if (tick != lastTick + 1) {
+            if (jumpCount == jumpSteps.length) {
+                jumpSteps = Arrays.copyOf(jumpSteps, jumpCount * 2);
+                jumpTicks = Arrays.copyOf(jumpTicks, jumpCount * 2);
+            }
+            jumpSteps[jumpCount] = tickCount;
+            jumpTicks[jumpCount] = tick;
+            jumpCount++;
+        }
+        lastTick = tick;
+        tickCount++;
+        if (tickCount % hashInterval == 0) {
+            if (hashCount == hashes.length) {
+                hashes = Arrays.copyOf(hashes, hashCount * 2);
+            }
+            hashes[hashCount++] = Replay.hash(model);
+        }
+    }
+
+    /**
+     * Returns the session recorded so far. Recording may continue afterwards.
+     *
+     * @return an immutable replay.
+     */
+    public synchronized Replay toReplay() {
+        return new Replay(mode, seed, hashInterval, firstTick, tickCount, initialState,
+                Arrays.copyOf(inputSteps, inputCount), Arrays.copyOf(inputKeys, inputCount),
+                Arrays.copyOf(jumpSteps, jumpCount), Arrays.copyOf(jumpTicks, jumpCount),
+                Arrays.copyOf(hashes, hashCount));
+    }
+}
@@ -0,0 +1,319 @@
+package game.utility;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * A Logger which queues events in a lock-free ring buffer and writes them to another
+ * Logger from a background thread, in batches.
+ *
+ * log() only claims a slot and stores the template and its values, so the calling
+ * (tick) thread never formats a message or waits on the sink. Formatting happens on
+ * the drain thread. Any number of threads may log concurrently.
+ *
+ * When the buffer is full, the OverflowPolicy decides what happens to new events.
+ * Counters report how many events were queued, written, dropped and lost to a sink
+ * that threw.
+ *
+ * Example: GameModel model = new GameModel(new AsyncLogger(ui::log))
+ */
+public class AsyncLogger implements Logger, AutoCloseable {
+    /** The default number of buffered events. */
+    public static final int DEFAULT_CAPACITY = 1024;
+    /** The most events written per batch before checking for shutdown. */
+    public static final int BATCH_SIZE = 64;
+
+    /**
+     * What log() does with an event when the buffer cannot take it.
+     */
+    public enum OverflowPolicy {
+        /** Discard the new event. */
+        DROP,
+        /** Wait until the drain thread frees a slot. */
+        BLOCK,
+        /**
+         * Once the buffer is half full, keep only one in every sampleRate events,
+         * and discard the new event if the buffer is full.
+         */
+        SAMPLE
+    }
+
+    private static final long IDLE_PARK_NANOS = TimeUnit.MILLISECONDS.toNanos(1);
+    private static final int NO_VALUES = 0;
+    private static final int OBJECT_VALUE = 1;
+    private static final int ONE_NUMBER = 2;
+    private static final int TWO_NUMBERS = 3;
+
+    private final Logger sink;
+    private final OverflowPolicy policy;
+    private final int sampleRate;
+    private final int mask;
+    // Slot i is free for the producer claiming position p when sequences[i] == p,
+    // and holds a published event for the consumer at position p when it is p + 1.
+    private final AtomicLongArray sequences;
+    private final String[] templates;
+    private final Object[] objects;
+    private final long[] firsts;
+    private final long[] seconds;
+    private final int[] kinds;
+    private final AtomicLong tail = new AtomicLong();
+    private final AtomicLong dropped = new AtomicLong();
+    private final AtomicLong sampleCounter = new AtomicLong();
+    // Producers between their check of closing and publishing their event.
+    private final AtomicInteger producers = new AtomicInteger();
+    // The position after the last event handed to the sink, once the sink returned.
+    private volatile long head;
+    // Events whose sink call threw; only the drain thread writes this.
+    private volatile long failed;
+    // Set by close(): log() stops accepting events.
+    private volatile boolean closing;
+    // Cleared by close() once no producer can publish any more: the drain thread stops.
+    private volatile boolean running = true;
+    private final Thread drainer;
+
+    /**
+     * Creates a logger with the default capacity which drops events on overflow.
+     *
+     * @param sink the logger that receives formatted messages on the drain thread.
+     */
+    public AsyncLogger(Logger sink) {
+        this(sink, DEFAULT_CAPACITY, OverflowPolicy.DROP, 1);
+    }
+
+    /**
+     * Creates a logger and starts its drain thread.
+     *
+     * @param sink the logger that receives formatted messages on the drain thread.
+     * @param capacity the number of buffered events, rounded up to a power of two.
+     * @param policy what to do with events when the buffer is full.
+     * @param sampleRate for OverflowPolicy.SAMPLE, keep one in this many events
+     *                   under pressure; ignored by the other policies.
+     */
+    public AsyncLogger(Logger sink, int capacity, OverflowPolicy policy, int sampleRate) {
+        int size = Integer.highestOneBit(Math.max(2, capacity - 1)) << 1;
+        this.sink = sink;
+        this.policy = policy;
+        this.sampleRate = Math.max(1, sampleRate);
+        this.mask = size - 1;
+        this.sequences = new AtomicLongArray(size);
+        for (int i = 0; i < size; i++) {
+            sequences.set(i, i);
+        }
+        this.templates = new String[size];
+        this.objects = new Object[size];
+        this.firsts = new long[size];
+        this.seconds = new long[size];
+        this.kinds = new int[size];
+        this.drainer = new Thread(this::drainLoop, "async-logger");
+        drainer.setDaemon(true);
+        drainer.start();
+    }
+
+    @Override
+    public void log(String message) {
+        offer(message, null, 0, 0, NO_VALUES);
+    }
+
+    @Override
+    public void log(String template, Object value) {
+        offer(template, value, 0, 0, OBJECT_VALUE);
+    }
+
+    @Override
+    public void log(String template, long value) {
+        offer(template, null, value, 0, ONE_NUMBER);
+    }
+
+    @Override
+    public void log(String template, long first, long second) {
+        offer(template, null, first, second, TWO_NUMBERS);
+    }
+
+    /**
+     * Returns the number of events accepted into the buffer so far.
+     *
+     * @return the queued event count.
+     */
+    public long getQueuedCount() {
+        return tail.get();
+    }
+
+    /**
+     * Returns the number of events written to the sink so far, not counting those
+     * whose write threw.
+     *
+     * @return the written event count.
+     */
+    public long getWrittenCount() {
+        long failures = failed;
+        return head - failures;
+    }
+
+    /**
+     * Returns the number of events lost because the sink threw while writing them.
+     *
+     * @return the failed write count.
+     */
+    public long getFailedCount() {
+        return failed;
+    }
+
+    /**
+     * Returns the number of events waiting to be written.
+     *
+     * @return the pending event count.
+     */
+    public long getPendingCount() {
+        return Math.max(0, tail.get() - head);
+    }
+
+    /**
+     * Returns the number of events discarded by the overflow policy.
+     *
+     * @return the dropped event count.
+     */
+    public long getDroppedCount() {
+        return dropped.get();
+    }
+
+    /**
+     * Waits until every event queued before this call has been written, i.e. its call
+     * to the sink has returned.
+     */
+    public void flush() {
+        long target = tail.get();
+        while (head < target && drainer.isAlive()) {
+            LockSupport.unpark(drainer);
+            Thread.onSpinWait();
+        }
+    }
+
+    /**
+     * Writes any pending events and stops the drain thread. Events logged once closing
+     * has started are dropped and counted as such; events already being published by
+     * another thread are still written.
+     */
+    @Override
+    public void close() {
+        closing = true;
+        while (producers.get() > 0) {
+            Thread.onSpinWait();
+        }
+        running = false;
+        LockSupport.unpark(drainer);
+        try {
+            drainer.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void offer(String template, Object object, long first, long second, int kind) {
+        producers.incrementAndGet();
+        try {
+            if (closing) {
+                dropped.incrementAndGet();
+                return;
+            }
+            publish(template, object, first, second, kind);
+        } finally {
+            producers.decrementAndGet();
+        }
+    }
+
+    private void publish(String template, Object object, long first, long second, int kind) {
+        if (policy == OverflowPolicy.SAMPLE && getPendingCount() > mask / 2
+                && sampleCounter.incrementAndGet() % sampleRate != 0) {
+            dropped.incrementAndGet();
+            return;
+        }
+        long position = tail.get();
+        while (true) {
+            int slot = (int) position & mask;
+            long available = sequences.get(slot) - position;
+            if (available == 0) {
+                if (tail.compareAndSet(position, position + 1)) {
+                    break;
+                }
+                position = tail.get();
+            } else if (available < 0) {
+                // The slot still holds an event from the previous lap: the buffer is full.
+                if (policy != OverflowPolicy.BLOCK || closing) {
+                    dropped.incrementAndGet();
+                    return;
+                }
+                LockSupport.unpark(drainer);
+                Thread.onSpinWait();
+                position = tail.get();
+            } else {
+                position = tail.get(); // Another producer claimed this slot first.
+            }
+        }
+        int slot = (int) position & mask;
+        templates[slot] = template;
+        objects[slot] = object;
+        firsts[slot] = first;
+        seconds[slot] = second;
+        kinds[slot] = kind;
+        sequences.set(slot, position + 1);
+    }
+
+    private void drainLoop() {
+        while (true) {
+            boolean stopping = !running;
+            int written = drainBatch();
+            if (written == 0) {
+                if (stopping) {
+                    return;
+                }
+                LockSupport.parkNanos(this, IDLE_PARK_NANOS);
+            }
+        }
+    }
+
+    /**
+     * Writes up to BATCH_SIZE published events to the sink.
+     *
+     * @return the number of events written.
+     */
+    private int drainBatch() {
+        int written = 0;
+        long position = head;
+        while (written < BATCH_SIZE) {
+            int slot = (int) position & mask;
+            if (sequences.get(slot) != position + 1) {
+                break; // Not yet published.
+            }
+            String message = format(templates[slot], objects[slot], firsts[slot],
+                    seconds[slot], kinds[slot]);
+            objects[slot] = null;
+            sequences.set(slot, position + mask + 1);
+            position++;
+            try {
+                sink.log(message);
+            } catch (RuntimeException e) {
+                failed++; // A failing sink must not stop the drain thread.
+            }
+            head = position; // Only now is the event written, as flush() expects.
+            written++;
+        }
+        return written;
+    }
+
+    private static String format(String template, Object object, long first, long second,
+                                 int kind) {
+        switch (kind) {
+            case OBJECT_VALUE:
+                return Logger.format(template, object);
+            case ONE_NUMBER:
+                return Logger.format(template, first);
+            case TWO_NUMBERS:
+                return Logger.format(template, first, second);
+            default:
+                return template;
+        }
+    }
+}
@@ -0,0 +1,78 @@
+package game.utility;
+
+import java.util.Arrays;
+
+/**
+ * An allocation-free index of object positions (list indices) grouped by board column.
+ * Each column is a singly linked list threaded through a shared int array, so
+ * rebuilding the index every tick costs O(n) and creates no garbage once the
+ * arrays have grown to the object count.
+ * Columns outside the board share a single overflow column.
+ */
+public class ColumnIndex {
+    /** Marks the end of a column's list. */
+    public static final int END = -1;
+
+    private final int width;
+    private final int[] heads;
+    private int[] next = new int[16];
+
+    /**
+     * Constructs an empty index for a board with the given number of columns.
+     *
+     * @param width the number of columns.
+     */
+    public ColumnIndex(int width) {
+        this.width = width;
+        this.heads = new int[width + 1];
+        Arrays.fill(heads, END);
+    }
+
+    /**
+     * Empties every column and makes room for indices below capacity.
+     *
+     * @param capacity the number of indices that may be added before the next clear.
+     */
+    public void clear(int capacity) {
+        Arrays.fill(heads, END);
+        if (next.length < capacity) {
+            next = new int[Math.max(capacity, next.length * 2)];
+        }
+    }
+
+    /**
+     * Adds an index to the given column.
+     *
+     * @param column the board column (x-coordinate).
+     * @param index the index to add, below the capacity passed to clear().
+     */
+    public void add(int column, int index) {
+        int slot = slot(column);
+        next[index] = heads[slot];
+        heads[slot] = index;
+    }
+
+    /**
+     * Returns the first index in the given column.
+     *
+     * @param column the board column (x-coordinate).
+     * @return the first index, or END if the column is empty.
+     */
+    public int first(int column) {
+        return heads[slot(column)];
+    }
+
+    /**
+     * Returns the index after the given one in the same column.
+     *
+     * @param index an index previously returned by first() or next().
+     * @return the following index, or END at the end of the column.
+     */
+    public int next(int index) {
+        return next[index];
+    }
+
+    private int slot(int column) {
+        return column < 0 || column >= width ? width : column;
+    }
+}
@@ -4,6 +4,11 @@ package game.utility;
  * A functional interface for logging messages.
  * Implementations should output the log message exactly as provided,
  * without adding extra formatting.
+ *
+ * The template methods let callers pass a message's parts instead of a
+ * concatenated string; each "{}" in the template is replaced by the next value.
+ * By default they format straight away, but implementations such as AsyncLogger
+ * may defer the formatting until the message is actually written.
  */
 @FunctionalInterface
 public interface Logger {
@@ -13,4 +18,106 @@ public interface Logger {
      * @param message the message to log
      */
     void log(String message);
+
+    /**
+     * Logs the template with its placeholder replaced by the given value.
+     *
+     * @param template the message, containing one "{}" placeholder
+     * @param value the value for the placeholder; must not change after the call
+     */
+    default void log(String template, Object value) {
+        log(format(template, value));
+    }
+
+    /**
+     * Logs the template with its placeholder replaced by the given number.
+     *
+     * @param template the message, containing one "{}" placeholder
+     * @param value the value for the placeholder
+     */
+    default void log(String template, long value) {
+        log(format(template, value));
+    }
+
+    /**
+     * Logs the template with its two placeholders replaced by the given numbers.
+     *
+     * @param template the message, containing two "{}" placeholders
+     * @param first the value for the first placeholder
+     * @param second the value for the second placeholder
+     */
+    default void log(String template, long first, long second) {
+        log(format(template, first, second));
+    }
+
+    /**
+     * Replaces the first "{}" in the template with the given value.
+     *
+     * @param template the message template
+     * @param value the value for the placeholder
+     * @return the formatted message
+     */
+    static String format(String template, Object value) {
+        StringBuilder out = new StringBuilder(template.length() + 16);
+        int rest = copyUntilPlaceholder(out, template, 0);
+        if (rest >= 0) {
+            out.append(value);
+            copyUntilPlaceholder(out, template, rest);
+        }
+        return out.toString();
+    }
+
+    /**
+     * Replaces the first "{}" in the template with the given number.
+     *
+     * @param template the message template
+     * @param value the value for the placeholder
+     * @return the formatted message
+     */
+    static String format(String template, long value) {
+        StringBuilder out = new StringBuilder(template.length() + 16);
+        int rest = copyUntilPlaceholder(out, template, 0);
+        if (rest >= 0) {
+            out.append(value);
+            copyUntilPlaceholder(out, template, rest);
+        }
+        return out.toString();
+    }
+
+    /**
+     * Replaces the first two "{}" in the template with the given numbers.
+     *
+     * @param template the message template
+     * @param first the value for the first placeholder
+     * @param second the value for the second placeholder
+     * @return the formatted message
+     */
+    static String format(String template, long first, long second) {
+        StringBuilder out = new StringBuilder(template.length() + 32);
+        int rest = copyUntilPlaceholder(out, template, 0);
+        if (rest >= 0) {
+            out.append(first);
+            rest = copyUntilPlaceholder(out, template, rest);
+            if (rest >= 0) {
+                out.append(second);
+                copyUntilPlaceholder(out, template, rest);
+            }
+        }
+        return out.toString();
+    }
+
+    /**
+     * Appends the template from the given index up to the next "{}", or to the end.
+     *
+     * @return the index just after the placeholder, or -1 if there was none.
+     */
+    private static int copyUntilPlaceholder(StringBuilder out, String template, int from) {
+        int at = template.indexOf("{}", from);
+        if (at < 0) {
+            out.append(template, from, template.length());
+            return -1;
+        }
+        out.append(template, from, at);
+        return at + 2;
+    }
 }
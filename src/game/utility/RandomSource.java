@@ -0,0 +1,48 @@
+package game.utility;
+
+/**
+ * A source of random numbers for game logic such as spawning.
+ * Implementations decide speed, thread-safety and sequence; all of them can be split
+ * into independent streams and have their state saved and restored, so seeded games
+ * stay reproducible across checkpoints.
+ */
+public interface RandomSource {
+    /**
+     * Returns a random int from 0 (inclusive) to bound (exclusive).
+     *
+     * @param bound the upper bound, must be positive.
+     * @return the random int.
+     */
+    int nextInt(int bound);
+
+    /**
+     * Returns a random boolean.
+     *
+     * @return the random boolean.
+     */
+    boolean nextBoolean();
+
+    /**
+     * Returns a new source whose numbers are independent of this one's.
+     * Advances this source, so splitting in the same order always gives the same
+     * streams.
+     *
+     * @return the new source.
+     */
+    RandomSource split();
+
+    /**
+     * Returns the source's current state.
+     *
+     * @return a copy of the state, to be passed to setState() later.
+     */
+    long[] getState();
+
+    /**
+     * Restores a state returned by getState() of a source of the same kind.
+     *
+     * @param state the state to restore.
+     * @throws IllegalArgumentException if the state has the wrong length.
+     */
+    void setState(long[] state);
+}
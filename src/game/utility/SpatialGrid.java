@@ -0,0 +1,206 @@
+package game.utility;
+
+import game.core.SpaceObject;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A cell-indexed bucket grid of SpaceObjects keyed on getX()/getY().
+ * Each on-board cell holds the objects currently occupying it, so lookups by
+ * position cost O(1) instead of a scan over every object.
+ * Objects outside the board (e.g. bullets that flew past the top edge) are counted
+ * by size() but not stored, so they cost nothing to add, move or remove however many
+ * pile up; an owner which needs to find them must keep track of them itself.
+ *
+ * The grid does not observe objects itself; the owner must call move() after
+ * changing an object's position and remove() before discarding it.
+ *
+ * A cell only holds a bucket while it is occupied. A cell which empties hands its bucket
+ * to a spare list and the next cell to be entered takes it from there, so the grid only
+ * allocates when more cells are occupied at once than ever before. Its memory follows
+ * the number of objects rather than the size of the board, and a steady state allocates
+ * nothing on any board; see game.benchmark.AllocationCheck.
+ */
+public class SpatialGrid {
+    private final int width;
+    private final int height;
+    private final List<List<SpaceObject>> cells;
+    // Empty buckets taken back from cells which emptied, for the next cell entered.
+    // Always has room for every bucket created, so taking one back never allocates.
+    private final ArrayList<List<SpaceObject>> spare = new ArrayList<>();
+    private int buckets;
+    private int size;
+
+    /**
+     * Constructs an empty grid covering a width x height board.
+     *
+     * @param width the number of columns.
+     * @param height the number of rows.
+     */
+    public SpatialGrid(int width, int height) {
+        this.width = width;
+        this.height = height;
+        int count = width * height;
+        this.cells = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            cells.add(null); // Buckets are handed out when a cell is entered.
+        }
+    }
+
+    /**
+     * Indexes the given object at its current position.
+     *
+     * @param object the object to add.
+     */
+    public void add(SpaceObject object) {
+        List<SpaceObject> bucket = bucketFor(object.getX(), object.getY(), true);
+        if (bucket != null) {
+            bucket.add(object);
+        }
+        size++;
+    }
+
+    /**
+     * Removes the given object from the cell matching its current position.
+     *
+     * An object off the board is not stored, so it is assumed to have been added.
+     *
+     * @param object the object to remove.
+     * @return true if the object was indexed and has been removed.
+     */
+    public boolean remove(SpaceObject object) {
+        return removeAt(object, object.getX(), object.getY());
+    }
+
+    /**
+     * Re-indexes an object after its position changed from (oldX, oldY).
+     * Objects which stayed in the same cell, or stayed off the board, are left untouched.
+     *
+     * @param object the object that moved.
+     * @param oldX the x-coordinate the object was indexed at.
+     * @param oldY the y-coordinate the object was indexed at.
+     */
+    public void move(SpaceObject object, int oldX, int oldY) {
+        if (cellIndex(oldX, oldY) == cellIndex(object.getX(), object.getY())) {
+            return; // Same cell, or still off the board.
+        }
+        if (removeAt(object, oldX, oldY)) {
+            add(object);
+        }
+    }
+
+    /**
+     * Returns the bucket for the cell at (x, y).
+     * For positions outside the board it is always empty, as off-board objects are not
+     * stored. The returned list must not be modified.
+     *
+     * @param x the x-coordinate.
+     * @param y the y-coordinate.
+     * @return the objects indexed at that cell, possibly empty.
+     */
+    public List<SpaceObject> objectsAt(int x, int y) {
+        List<SpaceObject> bucket = bucketFor(x, y, false);
+        return bucket == null ? List.of() : bucket;
+    }
+
+    /**
+     * Returns whether (x, y) lies on the board, i.e. has a cell whose objects are stored.
+     *
+     * @param x the x-coordinate.
+     * @param y the y-coordinate.
+     * @return true if the position is on the board.
+     */
+    public boolean isOnBoard(int x, int y) {
+        return cellIndex(x, y) >= 0;
+    }
+
+    /**
+     * Returns whether no object is indexed at the cell (x, y). Always true off the board.
+     *
+     * @param x the x-coordinate.
+     * @param y the y-coordinate.
+     * @return true if the cell is empty.
+     */
+    public boolean isEmpty(int x, int y) {
+        List<SpaceObject> bucket = bucketFor(x, y, false);
+        return bucket == null || bucket.isEmpty();
+    }
+
+    /**
+     * Returns the number of indexed objects.
+     *
+     * @return the number of objects in the grid.
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Removes every object from the grid.
+     */
+    public void clear() {
+        for (int i = 0; i < cells.size(); i++) {
+            List<SpaceObject> bucket = cells.get(i);
+            if (bucket != null) {
+                bucket.clear();
+                spare.add(bucket);
+                cells.set(i, null);
+            }
+        }
+        size = 0;
+    }
+
+    /**
+     * Discards the current index and indexes every object in the given list.
+     *
+     * @param objects the objects to index.
+     */
+    public void rebuild(List<SpaceObject> objects) {
+        clear();
+        for (int i = 0; i < objects.size(); i++) {
+            add(objects.get(i));
+        }
+    }
+
+    private boolean removeAt(SpaceObject object, int x, int y) {
+        if (!isOnBoard(x, y)) {
+            size--;
+            return true;
+        }
+        List<SpaceObject> bucket = bucketFor(x, y, false);
+        if (bucket != null && bucket.remove(object)) {
+            if (bucket.isEmpty()) {
+                cells.set(cellIndex(x, y), null);
+                spare.add(bucket);
+            }
+            size--;
+            return true;
+        }
+        return false;
+    }
+
+    private int cellIndex(int x, int y) {
+        if (x < 0 || x >= width || y < 0 || y >= height) {
+            return -1;
+        }
+        return y * width + x;
+    }
+
+    private List<SpaceObject> bucketFor(int x, int y, boolean create) {
+        int index = cellIndex(x, y);
+        if (index < 0) {
+            return null;
+        }
+        List<SpaceObject> bucket = cells.get(index);
+        if (bucket == null && create) {
+            if (spare.isEmpty()) {
+                bucket = new ArrayList<>(2);
+                spare.ensureCapacity(++buckets);
+            } else {
+                bucket = spare.remove(spare.size() - 1);
+            }
+            cells.set(index, bucket);
+        }
+        return bucket;
+    }
+}
@@ -0,0 +1,104 @@
+package game.utility;
+
+/**
+ * A fast, non-synchronized RandomSource using the SplitMix64 algorithm, the generator
+ * behind java.util.SplittableRandom. Each number costs one addition and a few
+ * multiply-xorshift steps, with no atomic operations, and split() derives independent
+ * streams the same way SplittableRandom does.
+ *
+ * Unlike SplittableRandom its state can be saved and restored. Instances must not be
+ * shared between threads without synchronisation; split one per thread instead.
+ */
+public class SplitMixRandom implements RandomSource {
+    private static final long GOLDEN_GAMMA = 0x9e3779b97f4a7c15L;
+
+    private long seed;
+    private long gamma; // Always odd.
+
+    /**
+     * Creates a generator with the given seed.
+     *
+     * @param seed the seed.
+     */
+    public SplitMixRandom(long seed) {
+        this(seed, GOLDEN_GAMMA);
+    }
+
+    private SplitMixRandom(long seed, long gamma) {
+        this.seed = seed;
+        this.gamma = gamma;
+    }
+
+    /**
+     * Returns a random long.
+     *
+     * @return the random long.
+     */
+    public long nextLong() {
+        return mix64(nextSeed());
+    }
+
+    @Override
+    public int nextInt(int bound) {
+        if (bound <= 0) {
+            throw new IllegalArgumentException("bound must be positive");
+        }
+        int r = mix32(nextSeed());
+        int m = bound - 1;
+        if ((bound & m) == 0) {
+            return r & m;
+        }
+        // Reject values from the incomplete last range, so every result is equally likely.
+        for (int u = r >>> 1; u + m - (r = u % bound) < 0; u = mix32(nextSeed()) >>> 1) {
+            // Draw again.
+        }
+        return r;
+    }
+
+    @Override
+    public boolean nextBoolean() {
+        return mix32(nextSeed()) < 0;
+    }
+
+    @Override
+    public SplitMixRandom split() {
+        return new SplitMixRandom(nextLong(), mixGamma(nextSeed()));
+    }
+
+    @Override
+    public long[] getState() {
+        return new long[] {seed, gamma};
+    }
+
+    @Override
+    public void setState(long[] state) {
+        if (state.length != 2) {
+            throw new IllegalArgumentException("Expected 2 state values, got " + state.length);
+        }
+        seed = state[0];
+        gamma = state[1] | 1;
+    }
+
+    private long nextSeed() {
+        return seed += gamma;
+    }
+
+    private static long mix64(long z) {
+        z = (z ^ (z >>> 30)) * 0xbf58476d1ce4e5b9L;
+        z = (z ^ (z >>> 27)) * 0x94d049bb133111ebL;
+        return z ^ (z >>> 31);
+    }
+
+    private static int mix32(long z) {
+        z = (z ^ (z >>> 33)) * 0x62a9d9ed799705f5L;
+        return (int) (((z ^ (z >>> 28)) * 0xcb24d0a5c88c35b3L) >>> 32);
+    }
+
+    private static long mixGamma(long z) {
+        z = (z ^ (z >>> 33)) * 0xff51afd7ed558ccdL;
+        z = (z ^ (z >>> 33)) * 0xc4ceb9fe1a85ec53L;
+        z = (z ^ (z >>> 33)) | 1L;
+        int n = Long.bitCount(z ^ (z >>> 1));
+        return (n < 24) ? z ^ 0xaaaaaaaaaaaaaaaaL : z;
+    }
+}
@@ -0,0 +1,89 @@
+package game.utility;
+
+import java.util.Random;
+
+/**
+ * A java.util.Random whose internal state can be read and restored.
+ * It runs the same linear congruential generator as Random, so for a given seed it
+ * produces exactly the same sequence of numbers; getState() and setState() make it
+ * possible to checkpoint a generator part-way through a sequence and resume it later.
+ * It is also the RandomSource that keeps GameModel's documented spawn sequence.
+ *
+ * Unlike Random, it is not thread-safe: next() updates the state without any locking,
+ * which keeps the single-threaded spawn path free of monitor overhead. Each thread
+ * should use its own generator, e.g. from split(), or callers must synchronise
+ * externally. Concurrent use can lose updates and repeat numbers.
+ */
+public class StatefulRandom extends Random implements RandomSource {
+    private static final long serialVersionUID = 1L;
+
+    private static final long MULTIPLIER = 0x5DEECE66DL;
+    private static final long ADDEND = 0xBL;
+    private static final long MASK = (1L << 48) - 1;
+
+    // Deliberately has no initialiser: Random's constructor calls setSeed() first.
+    private long state;
+
+    /**
+     * Creates a generator with an unpredictable seed, like new Random().
+     */
+    public StatefulRandom() {
+        super();
+    }
+
+    /**
+     * Creates a generator with the given seed, like new Random(seed).
+     *
+     * @param seed the initial seed.
+     */
+    public StatefulRandom(long seed) {
+        super(seed);
+    }
+
+    @Override
+    public void setSeed(long seed) {
+        super.setSeed(seed);
+        state = (seed ^ MULTIPLIER) & MASK;
+    }
+
+    /**
+     * Returns the generator's current 48-bit state.
+     *
+     * @return a one-element array holding the state, to be passed to setState() later.
+     */
+    @Override
+    public long[] getState() {
+        return new long[] {state};
+    }
+
+    /**
+     * Restores a state returned by getState(). The generator then continues with
+     * exactly the numbers it produced after that state was read.
+     *
+     * @param state the state to restore.
+     * @throws IllegalArgumentException if the state is not a single value.
+     */
+    @Override
+    public void setState(long[] state) {
+        if (state.length != 1) {
+            throw new IllegalArgumentException("Expected 1 state value, got " + state.length);
+        }
+        this.state = state[0] & MASK;
+    }
+
+    /**
+     * Returns a new generator seeded from this one's next long.
+     *
+     * @return the new generator.
+     */
+    @Override
+    public StatefulRandom split() {
+        return new StatefulRandom(nextLong());
+    }
+
+    @Override
+    protected int next(int bits) {
+        state = (state * MULTIPLIER + ADDEND) & MASK;
+        return (int) (state >>> (48 - bits));
+    }
+}
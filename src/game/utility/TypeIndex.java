@@ -0,0 +1,145 @@
+package game.utility;
+
+import game.core.EntityType;
+import game.core.SpaceObject;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * The list indices of each kind of object, so a pass over one population, such as
+ * every Bullet, skips the others without looking at them.
+ * Each object is classified once, when it is added, into an EntityType tag kept at its
+ * index; the per-type index lists are derived from the tags and are always in
+ * ascending order, i.e. in list order.
+ *
+ * The owner keeps the indices in step with its list: add() appends, and removals are
+ * mirrored with copy() and truncate(). After a removal the lists are rebuilt from the
+ * tags by the next query, in one pass over a byte array.
+ */
+public class TypeIndex {
+    private byte[] tags = new byte[16];
+    private int size;
+    private final int[][] lists = new int[EntityType.COUNT][16];
+    private final int[] counts = new int[EntityType.COUNT];
+    // Set when the lists no longer match the tags.
+    private boolean stale;
+
+    /**
+     * Appends an object at the next index.
+     *
+     * @param object the object.
+     */
+    public void add(SpaceObject object) {
+        if (size == tags.length) {
+            tags = Arrays.copyOf(tags, size * 2);
+        }
+        byte tag = EntityType.typeOf(object);
+        tags[size] = tag;
+        if (!stale) {
+            append(tag, size);
+        }
+        size++;
+    }
+
+    /**
+     * Copies the tag at one index to another, e.g. while compacting the list.
+     *
+     * @param from the index to copy.
+     * @param to the index to overwrite.
+     */
+    public void copy(int from, int to) {
+        if (from != to) {
+            tags[to] = tags[from];
+            stale = true;
+        }
+    }
+
+    /**
+     * Forgets the tags at and after the given index.
+     *
+     * @param newSize the number of tags to keep.
+     */
+    public void truncate(int newSize) {
+        if (newSize < size) {
+            size = newSize;
+            stale = true;
+        }
+    }
+
+    /**
+     * Classifies every object in the given list again.
+     *
+     * @param objects the objects.
+     */
+    public void rebuild(List<SpaceObject> objects) {
+        size = 0;
+        Arrays.fill(counts, 0);
+        stale = false;
+        for (int i = 0; i < objects.size(); i++) {
+            add(objects.get(i));
+        }
+    }
+
+    /**
+     * Returns the number of tagged indices.
+     *
+     * @return the number of tags.
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns the tag of the object at the given index.
+     *
+     * @param index the object's index.
+     * @return an EntityType tag.
+     */
+    public byte typeAt(int index) {
+        return tags[index];
+    }
+
+    /**
+     * Returns the number of objects with the given tag.
+     *
+     * @param type an EntityType tag.
+     * @return the number of objects of that type.
+     */
+    public int count(byte type) {
+        refresh();
+        return counts[type];
+    }
+
+    /**
+     * Returns the indices of the objects with the given tag, in ascending order.
+     * Only the first count(type) entries are valid, and the array must not be modified;
+     * it may be replaced by the next add().
+     *
+     * @param type an EntityType tag.
+     * @return the indices.
+     */
+    public int[] indices(byte type) {
+        refresh();
+        return lists[type];
+    }
+
+    private void refresh() {
+        if (!stale) {
+            return;
+        }
+        Arrays.fill(counts, 0);
+        for (int i = 0; i < size; i++) {
+            append(tags[i], i);
+        }
+        stale = false;
+    }
+
+    private void append(byte tag, int index) {
+        int[] list = lists[tag];
+        if (counts[tag] == list.length) {
+            list = Arrays.copyOf(list, list.length * 2);
+            lists[tag] = list;
+        }
+        list[counts[tag]++] = index;
+    }
+}